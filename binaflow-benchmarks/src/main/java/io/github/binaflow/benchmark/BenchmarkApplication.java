@@ -0,0 +1,54 @@
+package io.github.binaflow.benchmark;
+
+import io.github.binaflow.annotation.Controller;
+import io.github.binaflow.annotation.MessageMapping;
+import io.github.binaflow.benchmark.dto.BulkRequest;
+import io.github.binaflow.benchmark.dto.BulkResponse;
+import io.github.binaflow.service.BinaFlowService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application context with {@link BinaFlowService} for benchmarks of the whole dispatch path.
+ * <p>Web server and WebSocket endpoint are not started, messages are passed to the handler directly.
+ */
+@SpringBootApplication
+public class BenchmarkApplication {
+
+    /**
+     * @param properties additional properties, e.g. "binaflow.buffers.enabled=true"
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        var allProperties = new ArrayList<String>();
+        allProperties.add("binaflow.http-path=/binaflow");
+        allProperties.add("binaflow.execution.mode=inline");
+        allProperties.add("spring.autoconfigure.exclude=io.github.binaflow.config.WebSocketConfig");
+        allProperties.add("spring.main.banner-mode=off");
+        allProperties.add("logging.level.root=warn");
+        allProperties.addAll(List.of(properties));
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(allProperties.toArray(String[]::new))
+                .run();
+    }
+
+    @Controller
+    public static class BulkController {
+
+        /**
+         * Echoes the items back. messageType of the response is left unset, as in typical handlers.
+         */
+        @MessageMapping
+        public BulkResponse bulk(BulkRequest request) {
+            return BulkResponse.newBuilder()
+                    .setMessageId(request.getMessageId())
+                    .addAllItems(request.getItemsList())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.binaflow.benchmark;
+
+import io.github.binaflow.dto.Ping;
+import io.github.binaflow.service.BinaFlowService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole dispatch path of {@link BinaFlowService#handleMessage}: envelope decoding, typed parsing, handler invocation,
+ * response serialization and sending to the (stub) session. Messages are handled inline.
+ * <p>Payloads: Ping, BulkRequest with 100 items (medium) and BulkRequest with 10000 items (bulk).
+ * Bad messages answered with Error: unknown message type (unknown) and a truncated message (malformed).
+ * Reported as throughput and as latency percentiles (sample time). Run with {@code -prof gc} for allocations per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchBenchmark {
+
+    @Param({"ping", "medium", "bulk", "unknown", "malformed"})
+    private String payload;
+
+    @Param({"false", "true"})
+    private boolean pooledBuffers;
+
+    private ConfigurableApplicationContext context;
+    private BinaFlowService binaFlowService;
+    private StubWebSocketSession session;
+    private byte[] frame;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = BenchmarkApplication.start("binaflow.buffers.enabled=" + pooledBuffers);
+        binaFlowService = context.getBean(BinaFlowService.class);
+        session = new StubWebSocketSession("benchmark");
+        binaFlowService.afterConnectionEstablished(session);
+        frame = switch (payload) {
+            case "ping" -> Ping.newBuilder()
+                    .setMessageType("Ping")
+                    .setMessageId("00000000-0000-0000-0000-000000000000")
+                    .build()
+                    .toByteArray();
+            case "medium" -> Payloads.bulkRequest(100).toByteArray();
+            case "bulk" -> Payloads.bulkRequest(10_000).toByteArray();
+            case "unknown" -> Ping.newBuilder()
+                    .setMessageType("Unknown")
+                    .setMessageId("00000000-0000-0000-0000-000000000000")
+                    .build()
+                    .toByteArray();
+            case "malformed" -> new byte[]{10, 50, 1};
+            default -> throw new IllegalArgumentException(payload);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (session.sentMessages() == 0) {
+            throw new IllegalStateException("No responses were sent");
+        }
+        binaFlowService.afterConnectionClosed(session, CloseStatus.NORMAL);
+        context.close();
+    }
+
+    @Benchmark
+    public long handleMessage() throws Exception {
+        // Container wraps every frame into a new BinaryMessage too
+        binaFlowService.handleMessage(session, new BinaryMessage(frame));
+        return session.sentBytes();
+    }
+}
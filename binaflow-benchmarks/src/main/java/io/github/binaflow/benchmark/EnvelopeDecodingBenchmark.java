@@ -0,0 +1,71 @@
+package io.github.binaflow.benchmark;
+
+import io.github.binaflow.benchmark.dto.BulkRequest;
+import io.github.binaflow.codec.EnvelopeDecoder;
+import io.github.binaflow.dto.BaseMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old routing path (parse {@link BaseMessage}, then parse the typed message)
+ * with the single-pass path ({@link EnvelopeDecoder}, then parse the typed message once).
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} (bytes allocated per message).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnvelopeDecodingBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int itemCount;
+
+    private ByteBuffer payload;
+
+    @Setup
+    public void setup() {
+        payload = ByteBuffer.wrap(Payloads.bulkRequest(itemCount).toByteArray());
+    }
+
+    @Benchmark
+    public void baseMessageThenTypedParse(Blackhole blackhole) throws IOException {
+        var baseMessage = BaseMessage.parseFrom(payload);
+        blackhole.consume(baseMessage.getMessageType());
+        blackhole.consume(baseMessage.getMessageId());
+        blackhole.consume(BulkRequest.parseFrom(payload));
+    }
+
+    @Benchmark
+    public void envelopeThenTypedParse(Blackhole blackhole) throws IOException {
+        var envelope = EnvelopeDecoder.decode(payload);
+        blackhole.consume(envelope.messageType());
+        blackhole.consume(envelope.messageId());
+        blackhole.consume(BulkRequest.parseFrom(payload));
+    }
+
+    @Benchmark
+    public void baseMessageOnly(Blackhole blackhole) throws IOException {
+        blackhole.consume(BaseMessage.parseFrom(payload));
+    }
+
+    @Benchmark
+    public void envelopeOnly(Blackhole blackhole) throws IOException {
+        blackhole.consume(EnvelopeDecoder.decode(payload));
+    }
+}
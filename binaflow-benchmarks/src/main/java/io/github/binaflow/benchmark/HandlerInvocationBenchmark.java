@@ -0,0 +1,59 @@
+package io.github.binaflow.benchmark;
+
+import io.github.binaflow.benchmark.dto.BulkRequest;
+import io.github.binaflow.service.HandlerInvoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handler invocation only: direct call vs {@link Method#invoke} vs {@link HandlerInvoker} generated by {@link HandlerInvoker#of}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerInvocationBenchmark {
+
+    private BenchmarkApplication.BulkController controller;
+    private Method method;
+    private HandlerInvoker invoker;
+    private BulkRequest request;
+    private StubWebSocketSession session;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        controller = new BenchmarkApplication.BulkController();
+        method = BenchmarkApplication.BulkController.class.getMethod("bulk", BulkRequest.class);
+        invoker = HandlerInvoker.of(controller, method);
+        request = Payloads.bulkRequest(0);
+        session = new StubWebSocketSession("benchmark");
+    }
+
+    @Benchmark
+    public Object direct() {
+        return controller.bulk(request);
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        return method.invoke(controller, request);
+    }
+
+    @Benchmark
+    public Object generated() throws Exception {
+        return invoker.invoke(request, session);
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.binaflow.benchmark;
+
+import io.github.binaflow.benchmark.dto.BulkRequest;
+import io.github.binaflow.benchmark.dto.BulkResponse;
+import io.github.binaflow.benchmark.dto.Item;
+
+/**
+ * Test data shared by benchmarks.
+ */
+public final class Payloads {
+
+    private Payloads() {
+    }
+
+    public static BulkRequest bulkRequest(int itemCount) {
+        var builder = BulkRequest.newBuilder()
+                .setMessageType("BulkRequest")
+                .setMessageId("00000000-0000-0000-0000-000000000000");
+        for (int i = 0; i < itemCount; i++) {
+            builder.addItems(Item.newBuilder()
+                    .setId(i)
+                    .setName("item-" + i)
+                    .setValue(i * 0.5));
+        }
+        return builder.build();
+    }
+
+    public static BulkResponse bulkResponse(int itemCount) {
+        return BulkResponse.newBuilder()
+                .setMessageType("BulkResponse")
+                .setMessageId("00000000-0000-0000-0000-000000000000")
+                .addAllItems(bulkRequest(itemCount).getItemsList())
+                .build();
+    }
+}
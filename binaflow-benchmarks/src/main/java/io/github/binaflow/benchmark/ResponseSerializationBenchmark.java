@@ -0,0 +1,96 @@
+package io.github.binaflow.benchmark;
+
+import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.benchmark.dto.BulkResponse;
+import io.github.binaflow.codec.BufferPool;
+import io.github.binaflow.codec.MessageEncoder;
+import io.github.binaflow.codec.ResponseType;
+import io.github.binaflow.codec.ResponseTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serialization of a response into a new byte array with serialization into pooled heap and direct buffers.
+ * <p>{@code rebuildWithMessageType} and {@code prefixWithMessageType} compare two ways of sending a response
+ * with unset messageType: copy with {@code toBuilder()} vs write messageType ahead of the message ({@link ResponseType}).
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} (bytes allocated per response).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int itemCount;
+
+    private BulkResponse response;
+    private BulkResponse responseWithoutMessageType;
+    private ResponseType responseType;
+    private MessageEncoder encoder;
+    private MessageEncoder heapPoolEncoder;
+    private MessageEncoder directPoolEncoder;
+
+    @Setup
+    public void setup() {
+        response = Payloads.bulkResponse(itemCount);
+        responseWithoutMessageType = response.toBuilder().clearMessageType().build();
+        responseType = new ResponseTypes().get(BulkResponse.class);
+        encoder = new MessageEncoder(null);
+        heapPoolEncoder = new MessageEncoder(new BufferPool(buffers(false)));
+        directPoolEncoder = new MessageEncoder(new BufferPool(buffers(true)));
+    }
+
+    @Benchmark
+    public void toByteArray(Blackhole blackhole) {
+        blackhole.consume(new BinaryMessage(response.toByteArray()));
+    }
+
+    @Benchmark
+    public void pooledHeap(Blackhole blackhole) throws IOException {
+        var message = heapPoolEncoder.encode(response);
+        blackhole.consume(message);
+        heapPoolEncoder.release(message);
+    }
+
+    @Benchmark
+    public void pooledDirect(Blackhole blackhole) throws IOException {
+        var message = directPoolEncoder.encode(response);
+        blackhole.consume(message);
+        directPoolEncoder.release(message);
+    }
+
+    @Benchmark
+    public void rebuildWithMessageType(Blackhole blackhole) throws IOException {
+        var message = responseWithoutMessageType.toBuilder()
+                .setField(responseType.messageTypeField(), responseType.messageType())
+                .build();
+        blackhole.consume(encoder.encode(message));
+    }
+
+    @Benchmark
+    public void prefixWithMessageType(Blackhole blackhole) throws IOException {
+        blackhole.consume(encoder.encode(responseWithoutMessageType, responseType.messageTypePrefix()));
+    }
+
+    private static BinaFlowProperties.Buffers buffers(boolean direct) {
+        return new BinaFlowProperties.Buffers(true, direct, DataSize.ofMegabytes(1), 64);
+    }
+}
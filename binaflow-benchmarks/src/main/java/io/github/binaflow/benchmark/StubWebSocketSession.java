@@ -0,0 +1,60 @@
+package io.github.binaflow.benchmark;
+
+import jakarta.websocket.Session;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.adapter.standard.StandardWebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Open session without a socket. Sent messages are only counted.
+ */
+public class StubWebSocketSession extends StandardWebSocketSession {
+
+    private final String id;
+    private long sentMessages;
+    private long sentBytes;
+
+    public StubWebSocketSession(String id) {
+        super(new HttpHeaders(), new HashMap<>(), null, null);
+        this.id = id;
+        initializeNativeSession(nativeSession());
+    }
+
+    /**
+     * Native session is required by the send path, but never used, so any method returns an empty value.
+     */
+    private static Session nativeSession() {
+        return (Session) Proxy.newProxyInstance(Session.class.getClassLoader(), new Class<?>[]{Session.class},
+                (proxy, method, args) -> method.getReturnType() == List.class ? List.of() : null);
+    }
+
+    @Override
+    @NonNull
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    @Override
+    protected void sendBinaryMessage(BinaryMessage message) {
+        sentMessages++;
+        sentBytes += message.getPayloadLength();
+    }
+
+    public long sentMessages() {
+        return sentMessages;
+    }
+
+    public long sentBytes() {
+        return sentBytes;
+    }
+}
@@ -0,0 +1,86 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: benchmark-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.benchmark.dto;
+
+public final class BenchmarkSchema {
+  private BenchmarkSchema() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 28,
+      /* patch= */ 3,
+      /* suffix= */ "",
+      BenchmarkSchema.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BulkRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_BulkRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BulkResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_BulkResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Item_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Item_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\026benchmark-schema.proto\"K\n\013BulkRequest\022" +
+      "\023\n\013messageType\030\001 \001(\t\022\021\n\tmessageId\030\002 \001(\t\022" +
+      "\024\n\005items\030\003 \003(\0132\005.Item\"L\n\014BulkResponse\022\023\n" +
+      "\013messageType\030\001 \001(\t\022\021\n\tmessageId\030\002 \001(\t\022\024\n" +
+      "\005items\030\003 \003(\0132\005.Item\"/\n\004Item\022\n\n\002id\030\001 \001(\003\022" +
+      "\014\n\004name\030\002 \001(\t\022\r\n\005value\030\003 \001(\001B$\n io.githu" +
+      "b.binaflow.benchmark.dtoP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_BulkRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_BulkRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_BulkRequest_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "Items", });
+    internal_static_BulkResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_BulkResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_BulkResponse_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "Items", });
+    internal_static_Item_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_Item_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Item_descriptor,
+        new java.lang.String[] { "Id", "Name", "Value", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
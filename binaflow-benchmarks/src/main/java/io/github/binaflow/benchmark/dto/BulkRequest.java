@@ -0,0 +1,1003 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: benchmark-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.benchmark.dto;
+
+/**
+ * <pre>
+ * *
+ * Request with a repeated payload.
+ * Used to measure how the dispatch path scales with the payload size.
+ * </pre>
+ *
+ * Protobuf type {@code BulkRequest}
+ */
+public final class BulkRequest extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:BulkRequest)
+    BulkRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 28,
+      /* patch= */ 3,
+      /* suffix= */ "",
+      BulkRequest.class.getName());
+  }
+  // Use BulkRequest.newBuilder() to construct.
+  private BulkRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private BulkRequest() {
+    messageType_ = "";
+    messageId_ = "";
+    items_ = java.util.Collections.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.github.binaflow.benchmark.dto.BenchmarkSchema.internal_static_BulkRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.github.binaflow.benchmark.dto.BenchmarkSchema.internal_static_BulkRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.github.binaflow.benchmark.dto.BulkRequest.class, io.github.binaflow.benchmark.dto.BulkRequest.Builder.class);
+  }
+
+  public static final int MESSAGETYPE_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object messageType_ = "";
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The messageType.
+   */
+  @java.lang.Override
+  public java.lang.String getMessageType() {
+    java.lang.Object ref = messageType_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      messageType_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The bytes for messageType.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getMessageTypeBytes() {
+    java.lang.Object ref = messageType_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      messageType_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int MESSAGEID_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object messageId_ = "";
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The messageId.
+   */
+  @java.lang.Override
+  public java.lang.String getMessageId() {
+    java.lang.Object ref = messageId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      messageId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The bytes for messageId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getMessageIdBytes() {
+    java.lang.Object ref = messageId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      messageId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ITEMS_FIELD_NUMBER = 3;
+  @SuppressWarnings("serial")
+  private java.util.List<io.github.binaflow.benchmark.dto.Item> items_;
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<io.github.binaflow.benchmark.dto.Item> getItemsList() {
+    return items_;
+  }
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends io.github.binaflow.benchmark.dto.ItemOrBuilder> 
+      getItemsOrBuilderList() {
+    return items_;
+  }
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  @java.lang.Override
+  public int getItemsCount() {
+    return items_.size();
+  }
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  @java.lang.Override
+  public io.github.binaflow.benchmark.dto.Item getItems(int index) {
+    return items_.get(index);
+  }
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  @java.lang.Override
+  public io.github.binaflow.benchmark.dto.ItemOrBuilder getItemsOrBuilder(
+      int index) {
+    return items_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(messageType_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 1, messageType_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(messageId_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 2, messageId_);
+    }
+    for (int i = 0; i < items_.size(); i++) {
+      output.writeMessage(3, items_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(messageType_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(1, messageType_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(messageId_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(2, messageId_);
+    }
+    for (int i = 0; i < items_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, items_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.github.binaflow.benchmark.dto.BulkRequest)) {
+      return super.equals(obj);
+    }
+    io.github.binaflow.benchmark.dto.BulkRequest other = (io.github.binaflow.benchmark.dto.BulkRequest) obj;
+
+    if (!getMessageType()
+        .equals(other.getMessageType())) return false;
+    if (!getMessageId()
+        .equals(other.getMessageId())) return false;
+    if (!getItemsList()
+        .equals(other.getItemsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + MESSAGETYPE_FIELD_NUMBER;
+    hash = (53 * hash) + getMessageType().hashCode();
+    hash = (37 * hash) + MESSAGEID_FIELD_NUMBER;
+    hash = (53 * hash) + getMessageId().hashCode();
+    if (getItemsCount() > 0) {
+      hash = (37 * hash) + ITEMS_FIELD_NUMBER;
+      hash = (53 * hash) + getItemsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.github.binaflow.benchmark.dto.BulkRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.github.binaflow.benchmark.dto.BulkRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * *
+   * Request with a repeated payload.
+   * Used to measure how the dispatch path scales with the payload size.
+   * </pre>
+   *
+   * Protobuf type {@code BulkRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:BulkRequest)
+      io.github.binaflow.benchmark.dto.BulkRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.binaflow.benchmark.dto.BenchmarkSchema.internal_static_BulkRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.binaflow.benchmark.dto.BenchmarkSchema.internal_static_BulkRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.binaflow.benchmark.dto.BulkRequest.class, io.github.binaflow.benchmark.dto.BulkRequest.Builder.class);
+    }
+
+    // Construct using io.github.binaflow.benchmark.dto.BulkRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      messageType_ = "";
+      messageId_ = "";
+      if (itemsBuilder_ == null) {
+        items_ = java.util.Collections.emptyList();
+      } else {
+        items_ = null;
+        itemsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000004);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.github.binaflow.benchmark.dto.BenchmarkSchema.internal_static_BulkRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public io.github.binaflow.benchmark.dto.BulkRequest getDefaultInstanceForType() {
+      return io.github.binaflow.benchmark.dto.BulkRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public io.github.binaflow.benchmark.dto.BulkRequest build() {
+      io.github.binaflow.benchmark.dto.BulkRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public io.github.binaflow.benchmark.dto.BulkRequest buildPartial() {
+      io.github.binaflow.benchmark.dto.BulkRequest result = new io.github.binaflow.benchmark.dto.BulkRequest(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(io.github.binaflow.benchmark.dto.BulkRequest result) {
+      if (itemsBuilder_ == null) {
+        if (((bitField0_ & 0x00000004) != 0)) {
+          items_ = java.util.Collections.unmodifiableList(items_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.items_ = items_;
+      } else {
+        result.items_ = itemsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(io.github.binaflow.benchmark.dto.BulkRequest result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.messageType_ = messageType_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.messageId_ = messageId_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.github.binaflow.benchmark.dto.BulkRequest) {
+        return mergeFrom((io.github.binaflow.benchmark.dto.BulkRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.github.binaflow.benchmark.dto.BulkRequest other) {
+      if (other == io.github.binaflow.benchmark.dto.BulkRequest.getDefaultInstance()) return this;
+      if (!other.getMessageType().isEmpty()) {
+        messageType_ = other.messageType_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (!other.getMessageId().isEmpty()) {
+        messageId_ = other.messageId_;
+        bitField0_ |= 0x00000002;
+        onChanged();
+      }
+      if (itemsBuilder_ == null) {
+        if (!other.items_.isEmpty()) {
+          if (items_.isEmpty()) {
+            items_ = other.items_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureItemsIsMutable();
+            items_.addAll(other.items_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.items_.isEmpty()) {
+          if (itemsBuilder_.isEmpty()) {
+            itemsBuilder_.dispose();
+            itemsBuilder_ = null;
+            items_ = other.items_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+            itemsBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 getItemsFieldBuilder() : null;
+          } else {
+            itemsBuilder_.addAllMessages(other.items_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              messageType_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 18: {
+              messageId_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 18
+            case 26: {
+              io.github.binaflow.benchmark.dto.Item m =
+                  input.readMessage(
+                      io.github.binaflow.benchmark.dto.Item.parser(),
+                      extensionRegistry);
+              if (itemsBuilder_ == null) {
+                ensureItemsIsMutable();
+                items_.add(m);
+              } else {
+                itemsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 26
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object messageType_ = "";
+    /**
+     * <code>string messageType = 1;</code>
+     * @return The messageType.
+     */
+    public java.lang.String getMessageType() {
+      java.lang.Object ref = messageType_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        messageType_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string messageType = 1;</code>
+     * @return The bytes for messageType.
+     */
+    public com.google.protobuf.ByteString
+        getMessageTypeBytes() {
+      java.lang.Object ref = messageType_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        messageType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string messageType = 1;</code>
+     * @param value The messageType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageType(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      messageType_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageType = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessageType() {
+      messageType_ = getDefaultInstance().getMessageType();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageType = 1;</code>
+     * @param value The bytes for messageType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageTypeBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      messageType_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object messageId_ = "";
+    /**
+     * <code>string messageId = 2;</code>
+     * @return The messageId.
+     */
+    public java.lang.String getMessageId() {
+      java.lang.Object ref = messageId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        messageId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string messageId = 2;</code>
+     * @return The bytes for messageId.
+     */
+    public com.google.protobuf.ByteString
+        getMessageIdBytes() {
+      java.lang.Object ref = messageId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        messageId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string messageId = 2;</code>
+     * @param value The messageId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      messageId_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessageId() {
+      messageId_ = getDefaultInstance().getMessageId();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageId = 2;</code>
+     * @param value The bytes for messageId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      messageId_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<io.github.binaflow.benchmark.dto.Item> items_ =
+      java.util.Collections.emptyList();
+    private void ensureItemsIsMutable() {
+      if (!((bitField0_ & 0x00000004) != 0)) {
+        items_ = new java.util.ArrayList<io.github.binaflow.benchmark.dto.Item>(items_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        io.github.binaflow.benchmark.dto.Item, io.github.binaflow.benchmark.dto.Item.Builder, io.github.binaflow.benchmark.dto.ItemOrBuilder> itemsBuilder_;
+
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public java.util.List<io.github.binaflow.benchmark.dto.Item> getItemsList() {
+      if (itemsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(items_);
+      } else {
+        return itemsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public int getItemsCount() {
+      if (itemsBuilder_ == null) {
+        return items_.size();
+      } else {
+        return itemsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public io.github.binaflow.benchmark.dto.Item getItems(int index) {
+      if (itemsBuilder_ == null) {
+        return items_.get(index);
+      } else {
+        return itemsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder setItems(
+        int index, io.github.binaflow.benchmark.dto.Item value) {
+      if (itemsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureItemsIsMutable();
+        items_.set(index, value);
+        onChanged();
+      } else {
+        itemsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder setItems(
+        int index, io.github.binaflow.benchmark.dto.Item.Builder builderForValue) {
+      if (itemsBuilder_ == null) {
+        ensureItemsIsMutable();
+        items_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        itemsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder addItems(io.github.binaflow.benchmark.dto.Item value) {
+      if (itemsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureItemsIsMutable();
+        items_.add(value);
+        onChanged();
+      } else {
+        itemsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder addItems(
+        int index, io.github.binaflow.benchmark.dto.Item value) {
+      if (itemsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureItemsIsMutable();
+        items_.add(index, value);
+        onChanged();
+      } else {
+        itemsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder addItems(
+        io.github.binaflow.benchmark.dto.Item.Builder builderForValue) {
+      if (itemsBuilder_ == null) {
+        ensureItemsIsMutable();
+        items_.add(builderForValue.build());
+        onChanged();
+      } else {
+        itemsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder addItems(
+        int index, io.github.binaflow.benchmark.dto.Item.Builder builderForValue) {
+      if (itemsBuilder_ == null) {
+        ensureItemsIsMutable();
+        items_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        itemsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder addAllItems(
+        java.lang.Iterable<? extends io.github.binaflow.benchmark.dto.Item> values) {
+      if (itemsBuilder_ == null) {
+        ensureItemsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, items_);
+        onChanged();
+      } else {
+        itemsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder clearItems() {
+      if (itemsBuilder_ == null) {
+        items_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+      } else {
+        itemsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public Builder removeItems(int index) {
+      if (itemsBuilder_ == null) {
+        ensureItemsIsMutable();
+        items_.remove(index);
+        onChanged();
+      } else {
+        itemsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public io.github.binaflow.benchmark.dto.Item.Builder getItemsBuilder(
+        int index) {
+      return getItemsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public io.github.binaflow.benchmark.dto.ItemOrBuilder getItemsOrBuilder(
+        int index) {
+      if (itemsBuilder_ == null) {
+        return items_.get(index);  } else {
+        return itemsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public java.util.List<? extends io.github.binaflow.benchmark.dto.ItemOrBuilder> 
+         getItemsOrBuilderList() {
+      if (itemsBuilder_ != null) {
+        return itemsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(items_);
+      }
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public io.github.binaflow.benchmark.dto.Item.Builder addItemsBuilder() {
+      return getItemsFieldBuilder().addBuilder(
+          io.github.binaflow.benchmark.dto.Item.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public io.github.binaflow.benchmark.dto.Item.Builder addItemsBuilder(
+        int index) {
+      return getItemsFieldBuilder().addBuilder(
+          index, io.github.binaflow.benchmark.dto.Item.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .Item items = 3;</code>
+     */
+    public java.util.List<io.github.binaflow.benchmark.dto.Item.Builder> 
+         getItemsBuilderList() {
+      return getItemsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        io.github.binaflow.benchmark.dto.Item, io.github.binaflow.benchmark.dto.Item.Builder, io.github.binaflow.benchmark.dto.ItemOrBuilder> 
+        getItemsFieldBuilder() {
+      if (itemsBuilder_ == null) {
+        itemsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            io.github.binaflow.benchmark.dto.Item, io.github.binaflow.benchmark.dto.Item.Builder, io.github.binaflow.benchmark.dto.ItemOrBuilder>(
+                items_,
+                ((bitField0_ & 0x00000004) != 0),
+                getParentForChildren(),
+                isClean());
+        items_ = null;
+      }
+      return itemsBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:BulkRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:BulkRequest)
+  private static final io.github.binaflow.benchmark.dto.BulkRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.github.binaflow.benchmark.dto.BulkRequest();
+  }
+
+  public static io.github.binaflow.benchmark.dto.BulkRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BulkRequest>
+      PARSER = new com.google.protobuf.AbstractParser<BulkRequest>() {
+    @java.lang.Override
+    public BulkRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<BulkRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BulkRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public io.github.binaflow.benchmark.dto.BulkRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,59 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: benchmark-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.benchmark.dto;
+
+public interface BulkResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:BulkResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The messageType.
+   */
+  java.lang.String getMessageType();
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The bytes for messageType.
+   */
+  com.google.protobuf.ByteString
+      getMessageTypeBytes();
+
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The messageId.
+   */
+  java.lang.String getMessageId();
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The bytes for messageId.
+   */
+  com.google.protobuf.ByteString
+      getMessageIdBytes();
+
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  java.util.List<io.github.binaflow.benchmark.dto.Item> 
+      getItemsList();
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  io.github.binaflow.benchmark.dto.Item getItems(int index);
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  int getItemsCount();
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  java.util.List<? extends io.github.binaflow.benchmark.dto.ItemOrBuilder> 
+      getItemsOrBuilderList();
+  /**
+   * <code>repeated .Item items = 3;</code>
+   */
+  io.github.binaflow.benchmark.dto.ItemOrBuilder getItemsOrBuilder(
+      int index);
+}
@@ -0,0 +1,4 @@
+package io.github.binaflow.benchmark.jmh_generated;
+public class EnvelopeDecodingBenchmark_jmhType extends EnvelopeDecodingBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.github.binaflow.benchmark.jmh_generated;
+public class ResponseSerializationBenchmark_jmhType extends ResponseSerializationBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,176 @@
+package io.github.binaflow.loadtest;
+
+import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.codec.BatchDecoder;
+import io.github.binaflow.codec.Compressor;
+import io.github.binaflow.codec.EnvelopeDecoder;
+import org.HdrHistogram.Recorder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Lightweight BinaFlow client of one session on the JDK WebSocket client.
+ * <p>Requests are pipelined: up to {@code inFlight} requests are sent without waiting for their responses.
+ * Responses are correlated with requests by messageId, the time from sending a request to receiving its response
+ * is recorded in nanoseconds. Load is closed-loop: a new request is sent when a response frees its slot,
+ * so latencies are measured at the throughput the server sustains.
+ * <p>{@code Batch} and {@code Compressed} frames (binaflow.batch, binaflow.compression) are unwrapped,
+ * every response inside them frees its slot. A frame that can't be decoded frees one slot and is counted as an error,
+ * so the session doesn't stall.
+ */
+final class LoadClient implements WebSocket.Listener {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+    // Only decompression is used, the threshold and the level don't matter
+    private static final Compressor COMPRESSOR = new Compressor(
+            new BinaFlowProperties.Compression(true, DataSize.ofKilobytes(8), 1, DataSize.ofMegabytes(16), 16));
+
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final Recorder recorder;
+    private final LongAdder responses;
+    private final LongAdder errors;
+    private final Map<String, Long> pending = new ConcurrentHashMap<>(); // Key - messageId, value - nanoTime of sending
+    private volatile boolean running = true;
+    private WebSocket webSocket;
+    private ByteBuffer partialFrame; // Frame received in parts, accessed by the listener only
+
+    private LoadClient(int inFlight, Recorder recorder, LongAdder responses, LongAdder errors) {
+        this.maxInFlight = inFlight;
+        this.inFlight = new Semaphore(inFlight);
+        this.recorder = recorder;
+        this.responses = responses;
+        this.errors = errors;
+    }
+
+    /**
+     * @param recorder  latencies of all sessions of the run
+     * @param responses responses of all sessions of the run
+     * @param errors    Error responses of all sessions of the run
+     */
+    static LoadClient connect(HttpClient httpClient, URI uri, int inFlight, Recorder recorder, LongAdder responses, LongAdder errors) {
+        var client = new LoadClient(inFlight, recorder, responses, errors);
+        client.webSocket = httpClient.newWebSocketBuilder().buildAsync(uri, client).join();
+        return client;
+    }
+
+    /**
+     * Send requests until {@link #stop()}, every request waits for a free in-flight slot.
+     *
+     * @param requests serialized request by messageId
+     */
+    void run(Function<String, byte[]> requests) throws InterruptedException {
+        var sequence = 0L;
+        while (running) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            var messageId = Long.toString(sequence++);
+            var frame = requests.apply(messageId);
+            pending.put(messageId, System.nanoTime());
+            webSocket.sendBinary(ByteBuffer.wrap(frame), true).join();
+        }
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    /**
+     * Wait for responses to the requests in flight after {@link #stop()}, so the session is not closed under handlers.
+     *
+     * @return false if not all responses are received in the timeout
+     */
+    boolean awaitResponses(long timeoutMillis) throws InterruptedException {
+        return inFlight.tryAcquire(maxInFlight, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void close() {
+        try {
+            webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            webSocket.abort();
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+        if (!last || partialFrame != null) {
+            var frame = ByteBuffer.allocate((partialFrame == null ? 0 : partialFrame.remaining()) + data.remaining());
+            if (partialFrame != null) {
+                frame.put(partialFrame);
+            }
+            partialFrame = frame.put(data).flip();
+        }
+        if (last) {
+            var frame = partialFrame != null ? partialFrame : data;
+            partialFrame = null;
+            received(frame);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    private void received(ByteBuffer frame) {
+        var now = System.nanoTime();
+        try {
+            received(frame, now);
+        } catch (IOException e) {
+            // Response in the frame can't be correlated, its slot is freed anyway
+            errors.increment();
+            inFlight.release();
+        }
+    }
+
+    private void received(ByteBuffer frame, long now) throws IOException {
+        var envelope = EnvelopeDecoder.decode(frame);
+        switch (envelope.messageType()) {
+            case "Batch" -> {
+                for (var message : BatchDecoder.decode(frame)) {
+                    received(message, now);
+                }
+            }
+            case "Compressed" -> received(COMPRESSOR.decompress(frame), now);
+            default -> {
+                var sentAt = pending.remove(envelope.messageId());
+                if (sentAt == null) {
+                    // Not a response, e.g. MessageTypeTable
+                    return;
+                }
+                recorder.recordValue(now - sentAt);
+                responses.increment();
+                if ("Error".equals(envelope.messageType())) {
+                    errors.increment();
+                }
+                inFlight.release();
+            }
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        if (running && statusCode != WebSocket.NORMAL_CLOSURE) {
+            errors.increment();
+        }
+        running = false;
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        errors.increment();
+        running = false;
+    }
+}
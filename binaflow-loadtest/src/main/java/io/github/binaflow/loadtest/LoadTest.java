@@ -0,0 +1,204 @@
+package io.github.binaflow.loadtest;
+
+import io.github.binaflow.dto.Ping;
+import io.github.binaflow.loadtest.dto.HeavyRequest;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Load test of the BinaFlow endpoint over WebSocket connections on localhost.
+ * <p>For every execution mode the starter is started in-process on an ephemeral port ({@link LoadTestApplication}),
+ * then for every scenario {@code sessions} clients ({@link LoadClient}) send requests with {@code in-flight} requests
+ * of each session in flight: first for the warmup, then for the measured duration.
+ * Throughput and latency percentiles of the measured duration are printed as a table.
+ * <p>Scenarios: ping - Ping handled by PingController, heavy - HeavyRequest handled by HeavyController.
+ * <p>Options are passed as {@code --name=value}, see {@link Options}. Other {@code --name=value} arguments
+ * are passed to the application, e.g. {@code --binaflow.batch.enabled=true}.
+ * Exits with status 1 if any request was answered with Error or left unanswered, or a session failed, so it can gate a CI build.
+ */
+public final class LoadTest {
+
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = Options.parse(args);
+        System.out.printf("sessions=%d in-flight=%d warmup=%s duration=%s heavy(cpu-iterations=%d, sleep=%dms, payload-size=%d)%n",
+                options.sessions(), options.inFlight(), options.warmup(), options.duration(),
+                options.heavyCpuIterations(), options.heavySleepMillis(), options.heavyPayloadSize());
+        System.out.printf("%-16s %-8s %12s %10s %10s %10s %10s %8s%n", "mode", "scenario", "msg/s", "p50 us", "p99 us", "p999 us", "max us", "errors");
+        var failed = false;
+        for (var mode : options.modes()) {
+            var applicationProperties = new ArrayList<>(options.applicationProperties());
+            applicationProperties.add("binaflow.execution.mode=" + mode);
+            try (var context = LoadTestApplication.start(applicationProperties.toArray(String[]::new))) {
+                var uri = URI.create("ws://127.0.0.1:" + LoadTestApplication.port(context) + LoadTestApplication.HTTP_PATH);
+                for (var scenario : options.scenarios()) {
+                    var result = run(uri, options, requests(scenario, options));
+                    System.out.printf("%-16s %-8s %12.0f %10.1f %10.1f %10.1f %10.1f %8d%n", mode, scenario, result.throughput(),
+                            micros(result.latency().getValueAtPercentile(50)), micros(result.latency().getValueAtPercentile(99)),
+                            micros(result.latency().getValueAtPercentile(99.9)), micros(result.latency().getMaxValue()), result.errors());
+                    failed |= result.errors() > 0 || result.latency().getTotalCount() == 0;
+                }
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static Function<String, byte[]> requests(String scenario, Options options) {
+        return switch (scenario) {
+            case "ping" -> messageId -> Ping.newBuilder()
+                    .setMessageType("Ping")
+                    .setMessageId(messageId)
+                    .build()
+                    .toByteArray();
+            case "heavy" -> messageId -> HeavyRequest.newBuilder()
+                    .setMessageType("HeavyRequest")
+                    .setMessageId(messageId)
+                    .setCpuIterations(options.heavyCpuIterations())
+                    .setSleepMillis(options.heavySleepMillis())
+                    .setPayloadSize(options.heavyPayloadSize())
+                    .build()
+                    .toByteArray();
+            default -> throw new IllegalArgumentException("Unknown scenario '" + scenario + "', expected ping or heavy");
+        };
+    }
+
+    private static Result run(URI uri, Options options, Function<String, byte[]> requests) throws InterruptedException {
+        var recorder = new Recorder(3);
+        var responses = new LongAdder();
+        var errors = new LongAdder();
+        var clients = new ArrayList<LoadClient>();
+        try (var httpClient = HttpClient.newHttpClient();
+             var senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.sessions(); i++) {
+                clients.add(LoadClient.connect(httpClient, uri, options.inFlight(), recorder, responses, errors));
+            }
+            for (var client : clients) {
+                senders.execute(() -> {
+                    try {
+                        client.run(requests);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException e) {
+                        errors.increment();
+                    }
+                });
+            }
+            Thread.sleep(options.warmup().toMillis());
+            // Interval histogram is reset, only the measured duration is reported
+            recorder.getIntervalHistogram();
+            var responsesBefore = responses.sum();
+            var errorsBefore = errors.sum();
+            var start = System.nanoTime();
+            Thread.sleep(options.duration().toMillis());
+            var latency = recorder.getIntervalHistogram();
+            var elapsedSeconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+            var throughput = (responses.sum() - responsesBefore) / elapsedSeconds;
+            var measuredErrors = errors.sum() - errorsBefore;
+            clients.forEach(LoadClient::stop);
+            senders.shutdown();
+            senders.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            var stalledSessions = 0;
+            for (var client : clients) {
+                if (!client.awaitResponses(STOP_TIMEOUT_MILLIS)) {
+                    // Requests in flight were not answered, the session leaked its slots
+                    stalledSessions++;
+                }
+                client.close();
+            }
+            if (stalledSessions > 0) {
+                System.err.printf("%d sessions didn't receive responses to all requests in flight in %d ms%n", stalledSessions, STOP_TIMEOUT_MILLIS);
+            }
+            return new Result(throughput, latency, measuredErrors + stalledSessions);
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    /**
+     * @param throughput responses per second
+     * @param latency    nanoseconds from sending a request to receiving its response
+     * @param errors     Error responses, malformed frames, failed sessions and sessions with requests left unanswered
+     */
+    private record Result(double throughput, Histogram latency, long errors) {
+    }
+
+    /**
+     * @param sessions                number of WebSocket sessions, 64 by default
+     * @param inFlight                requests of one session sent without waiting for responses, 16 by default
+     * @param warmup                  time of load before the measurement, 5s by default
+     * @param duration                measured time, 10s by default
+     * @param modes                   values of binaflow.execution.mode, all by default
+     * @param scenarios               ping and heavy by default
+     * @param heavyCpuIterations      CPU work of a heavy request, 10000 by default
+     * @param heavySleepMillis        blocking of a heavy request, 1 by default
+     * @param heavyPayloadSize        bytes of a heavy response, 1024 by default
+     * @param applicationProperties   other arguments as properties of the application
+     */
+    record Options(int sessions,
+                   int inFlight,
+                   Duration warmup,
+                   Duration duration,
+                   List<String> modes,
+                   List<String> scenarios,
+                   int heavyCpuIterations,
+                   int heavySleepMillis,
+                   int heavyPayloadSize,
+                   List<String> applicationProperties) {
+
+        static Options parse(String[] args) {
+            var values = new HashMap<String, String>();
+            var applicationProperties = new ArrayList<String>();
+            for (var arg : args) {
+                var separator = arg.indexOf('=');
+                if (!arg.startsWith("--") || separator < 0) {
+                    throw new IllegalArgumentException("Argument '" + arg + "' must be --name=value");
+                }
+                var name = arg.substring(2, separator);
+                if (name.contains(".")) {
+                    applicationProperties.add(arg.substring(2));
+                } else {
+                    values.put(name, arg.substring(separator + 1));
+                }
+            }
+            var options = new Options(
+                    Integer.parseInt(take(values, "sessions", "64")),
+                    Integer.parseInt(take(values, "in-flight", "16")),
+                    DurationStyle.detectAndParse(take(values, "warmup", "5s")),
+                    DurationStyle.detectAndParse(take(values, "duration", "10s")),
+                    List.of(take(values, "modes", "inline,virtual-threads,bounded-pool").split(",")),
+                    List.of(take(values, "scenarios", "ping,heavy").split(",")),
+                    Integer.parseInt(take(values, "heavy-cpu-iterations", "10000")),
+                    Integer.parseInt(take(values, "heavy-sleep-millis", "1")),
+                    Integer.parseInt(take(values, "heavy-payload-size", "1024")),
+                    List.copyOf(applicationProperties));
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Unknown options " + values.keySet());
+            }
+            return options;
+        }
+
+        private static String take(Map<String, String> values, String name, String defaultValue) {
+            var value = values.remove(name);
+            return value != null ? value : defaultValue;
+        }
+    }
+}
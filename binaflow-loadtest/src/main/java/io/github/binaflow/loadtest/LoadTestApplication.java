@@ -0,0 +1,75 @@
+package io.github.binaflow.loadtest;
+
+import com.google.protobuf.ByteString;
+import io.github.binaflow.annotation.Controller;
+import io.github.binaflow.annotation.MessageMapping;
+import io.github.binaflow.loadtest.dto.HeavyRequest;
+import io.github.binaflow.loadtest.dto.HeavyResponse;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The starter with the embedded web server on an ephemeral port of localhost, the endpoint is /binaflow.
+ * <p>Handlers: PingController of the starter and {@link HeavyController}.
+ */
+@SpringBootApplication
+public class LoadTestApplication {
+
+    public static final String HTTP_PATH = "/binaflow";
+
+    /**
+     * @param properties additional properties, e.g. "binaflow.execution.mode=inline"
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        var allProperties = new ArrayList<String>();
+        allProperties.add("binaflow.http-path=" + HTTP_PATH);
+        allProperties.add("server.address=127.0.0.1");
+        allProperties.add("server.port=0");
+        allProperties.add("spring.main.banner-mode=off");
+        allProperties.add("logging.level.root=warn");
+        allProperties.addAll(List.of(properties));
+        return new SpringApplicationBuilder(LoadTestApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(allProperties.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * @return port of the started web server
+     */
+    public static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @Controller
+    public static class HeavyController {
+
+        /**
+         * Burns CPU for cpuIterations, blocks for sleepMillis, then responds with payloadSize bytes.
+         */
+        @MessageMapping
+        public HeavyResponse heavy(HeavyRequest request) throws InterruptedException {
+            var result = (long) request.getMessageId().hashCode();
+            for (int i = 0; i < request.getCpuIterations(); i++) {
+                // xorshift, so the loop is not folded by the JIT
+                result ^= result << 13;
+                result ^= result >>> 7;
+                result ^= result << 17;
+            }
+            if (request.getSleepMillis() > 0) {
+                Thread.sleep(request.getSleepMillis());
+            }
+            return HeavyResponse.newBuilder()
+                    .setMessageId(request.getMessageId())
+                    .setResult(result)
+                    .setPayload(ByteString.copyFrom(new byte[request.getPayloadSize()]))
+                    .build();
+        }
+    }
+}
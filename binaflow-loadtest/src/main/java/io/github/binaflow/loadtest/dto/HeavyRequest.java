@@ -0,0 +1,847 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: loadtest-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.loadtest.dto;
+
+/**
+ * <pre>
+ * *
+ * Request of the heavy scenario.
+ * The handler burns CPU, then blocks like a call to a database, then responds with a payload of the requested size.
+ * </pre>
+ *
+ * Protobuf type {@code HeavyRequest}
+ */
+public final class HeavyRequest extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:HeavyRequest)
+    HeavyRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 28,
+      /* patch= */ 3,
+      /* suffix= */ "",
+      HeavyRequest.class.getName());
+  }
+  // Use HeavyRequest.newBuilder() to construct.
+  private HeavyRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private HeavyRequest() {
+    messageType_ = "";
+    messageId_ = "";
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return io.github.binaflow.loadtest.dto.LoadtestSchema.internal_static_HeavyRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return io.github.binaflow.loadtest.dto.LoadtestSchema.internal_static_HeavyRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            io.github.binaflow.loadtest.dto.HeavyRequest.class, io.github.binaflow.loadtest.dto.HeavyRequest.Builder.class);
+  }
+
+  public static final int MESSAGETYPE_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object messageType_ = "";
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The messageType.
+   */
+  @java.lang.Override
+  public java.lang.String getMessageType() {
+    java.lang.Object ref = messageType_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      messageType_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The bytes for messageType.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getMessageTypeBytes() {
+    java.lang.Object ref = messageType_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      messageType_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int MESSAGEID_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object messageId_ = "";
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The messageId.
+   */
+  @java.lang.Override
+  public java.lang.String getMessageId() {
+    java.lang.Object ref = messageId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      messageId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The bytes for messageId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getMessageIdBytes() {
+    java.lang.Object ref = messageId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      messageId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int CPUITERATIONS_FIELD_NUMBER = 3;
+  private int cpuIterations_ = 0;
+  /**
+   * <code>int32 cpuIterations = 3;</code>
+   * @return The cpuIterations.
+   */
+  @java.lang.Override
+  public int getCpuIterations() {
+    return cpuIterations_;
+  }
+
+  public static final int SLEEPMILLIS_FIELD_NUMBER = 4;
+  private int sleepMillis_ = 0;
+  /**
+   * <code>int32 sleepMillis = 4;</code>
+   * @return The sleepMillis.
+   */
+  @java.lang.Override
+  public int getSleepMillis() {
+    return sleepMillis_;
+  }
+
+  public static final int PAYLOADSIZE_FIELD_NUMBER = 5;
+  private int payloadSize_ = 0;
+  /**
+   * <code>int32 payloadSize = 5;</code>
+   * @return The payloadSize.
+   */
+  @java.lang.Override
+  public int getPayloadSize() {
+    return payloadSize_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(messageType_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 1, messageType_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(messageId_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 2, messageId_);
+    }
+    if (cpuIterations_ != 0) {
+      output.writeInt32(3, cpuIterations_);
+    }
+    if (sleepMillis_ != 0) {
+      output.writeInt32(4, sleepMillis_);
+    }
+    if (payloadSize_ != 0) {
+      output.writeInt32(5, payloadSize_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(messageType_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(1, messageType_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(messageId_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(2, messageId_);
+    }
+    if (cpuIterations_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(3, cpuIterations_);
+    }
+    if (sleepMillis_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, sleepMillis_);
+    }
+    if (payloadSize_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(5, payloadSize_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof io.github.binaflow.loadtest.dto.HeavyRequest)) {
+      return super.equals(obj);
+    }
+    io.github.binaflow.loadtest.dto.HeavyRequest other = (io.github.binaflow.loadtest.dto.HeavyRequest) obj;
+
+    if (!getMessageType()
+        .equals(other.getMessageType())) return false;
+    if (!getMessageId()
+        .equals(other.getMessageId())) return false;
+    if (getCpuIterations()
+        != other.getCpuIterations()) return false;
+    if (getSleepMillis()
+        != other.getSleepMillis()) return false;
+    if (getPayloadSize()
+        != other.getPayloadSize()) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + MESSAGETYPE_FIELD_NUMBER;
+    hash = (53 * hash) + getMessageType().hashCode();
+    hash = (37 * hash) + MESSAGEID_FIELD_NUMBER;
+    hash = (53 * hash) + getMessageId().hashCode();
+    hash = (37 * hash) + CPUITERATIONS_FIELD_NUMBER;
+    hash = (53 * hash) + getCpuIterations();
+    hash = (37 * hash) + SLEEPMILLIS_FIELD_NUMBER;
+    hash = (53 * hash) + getSleepMillis();
+    hash = (37 * hash) + PAYLOADSIZE_FIELD_NUMBER;
+    hash = (53 * hash) + getPayloadSize();
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static io.github.binaflow.loadtest.dto.HeavyRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(io.github.binaflow.loadtest.dto.HeavyRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * *
+   * Request of the heavy scenario.
+   * The handler burns CPU, then blocks like a call to a database, then responds with a payload of the requested size.
+   * </pre>
+   *
+   * Protobuf type {@code HeavyRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:HeavyRequest)
+      io.github.binaflow.loadtest.dto.HeavyRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.binaflow.loadtest.dto.LoadtestSchema.internal_static_HeavyRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.binaflow.loadtest.dto.LoadtestSchema.internal_static_HeavyRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.binaflow.loadtest.dto.HeavyRequest.class, io.github.binaflow.loadtest.dto.HeavyRequest.Builder.class);
+    }
+
+    // Construct using io.github.binaflow.loadtest.dto.HeavyRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      messageType_ = "";
+      messageId_ = "";
+      cpuIterations_ = 0;
+      sleepMillis_ = 0;
+      payloadSize_ = 0;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return io.github.binaflow.loadtest.dto.LoadtestSchema.internal_static_HeavyRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public io.github.binaflow.loadtest.dto.HeavyRequest getDefaultInstanceForType() {
+      return io.github.binaflow.loadtest.dto.HeavyRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public io.github.binaflow.loadtest.dto.HeavyRequest build() {
+      io.github.binaflow.loadtest.dto.HeavyRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public io.github.binaflow.loadtest.dto.HeavyRequest buildPartial() {
+      io.github.binaflow.loadtest.dto.HeavyRequest result = new io.github.binaflow.loadtest.dto.HeavyRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(io.github.binaflow.loadtest.dto.HeavyRequest result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.messageType_ = messageType_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.messageId_ = messageId_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.cpuIterations_ = cpuIterations_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.sleepMillis_ = sleepMillis_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.payloadSize_ = payloadSize_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof io.github.binaflow.loadtest.dto.HeavyRequest) {
+        return mergeFrom((io.github.binaflow.loadtest.dto.HeavyRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(io.github.binaflow.loadtest.dto.HeavyRequest other) {
+      if (other == io.github.binaflow.loadtest.dto.HeavyRequest.getDefaultInstance()) return this;
+      if (!other.getMessageType().isEmpty()) {
+        messageType_ = other.messageType_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (!other.getMessageId().isEmpty()) {
+        messageId_ = other.messageId_;
+        bitField0_ |= 0x00000002;
+        onChanged();
+      }
+      if (other.getCpuIterations() != 0) {
+        setCpuIterations(other.getCpuIterations());
+      }
+      if (other.getSleepMillis() != 0) {
+        setSleepMillis(other.getSleepMillis());
+      }
+      if (other.getPayloadSize() != 0) {
+        setPayloadSize(other.getPayloadSize());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              messageType_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 18: {
+              messageId_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 18
+            case 24: {
+              cpuIterations_ = input.readInt32();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 32: {
+              sleepMillis_ = input.readInt32();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            case 40: {
+              payloadSize_ = input.readInt32();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object messageType_ = "";
+    /**
+     * <code>string messageType = 1;</code>
+     * @return The messageType.
+     */
+    public java.lang.String getMessageType() {
+      java.lang.Object ref = messageType_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        messageType_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string messageType = 1;</code>
+     * @return The bytes for messageType.
+     */
+    public com.google.protobuf.ByteString
+        getMessageTypeBytes() {
+      java.lang.Object ref = messageType_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        messageType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string messageType = 1;</code>
+     * @param value The messageType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageType(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      messageType_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageType = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessageType() {
+      messageType_ = getDefaultInstance().getMessageType();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageType = 1;</code>
+     * @param value The bytes for messageType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageTypeBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      messageType_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object messageId_ = "";
+    /**
+     * <code>string messageId = 2;</code>
+     * @return The messageId.
+     */
+    public java.lang.String getMessageId() {
+      java.lang.Object ref = messageId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        messageId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string messageId = 2;</code>
+     * @return The bytes for messageId.
+     */
+    public com.google.protobuf.ByteString
+        getMessageIdBytes() {
+      java.lang.Object ref = messageId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        messageId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string messageId = 2;</code>
+     * @param value The messageId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      messageId_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageId = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessageId() {
+      messageId_ = getDefaultInstance().getMessageId();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string messageId = 2;</code>
+     * @param value The bytes for messageId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      messageId_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+
+    private int cpuIterations_ ;
+    /**
+     * <code>int32 cpuIterations = 3;</code>
+     * @return The cpuIterations.
+     */
+    @java.lang.Override
+    public int getCpuIterations() {
+      return cpuIterations_;
+    }
+    /**
+     * <code>int32 cpuIterations = 3;</code>
+     * @param value The cpuIterations to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCpuIterations(int value) {
+
+      cpuIterations_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 cpuIterations = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCpuIterations() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      cpuIterations_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int sleepMillis_ ;
+    /**
+     * <code>int32 sleepMillis = 4;</code>
+     * @return The sleepMillis.
+     */
+    @java.lang.Override
+    public int getSleepMillis() {
+      return sleepMillis_;
+    }
+    /**
+     * <code>int32 sleepMillis = 4;</code>
+     * @param value The sleepMillis to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSleepMillis(int value) {
+
+      sleepMillis_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 sleepMillis = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSleepMillis() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      sleepMillis_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int payloadSize_ ;
+    /**
+     * <code>int32 payloadSize = 5;</code>
+     * @return The payloadSize.
+     */
+    @java.lang.Override
+    public int getPayloadSize() {
+      return payloadSize_;
+    }
+    /**
+     * <code>int32 payloadSize = 5;</code>
+     * @param value The payloadSize to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPayloadSize(int value) {
+
+      payloadSize_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 payloadSize = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPayloadSize() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      payloadSize_ = 0;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:HeavyRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:HeavyRequest)
+  private static final io.github.binaflow.loadtest.dto.HeavyRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new io.github.binaflow.loadtest.dto.HeavyRequest();
+  }
+
+  public static io.github.binaflow.loadtest.dto.HeavyRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<HeavyRequest>
+      PARSER = new com.google.protobuf.AbstractParser<HeavyRequest>() {
+    @java.lang.Override
+    public HeavyRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<HeavyRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<HeavyRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public io.github.binaflow.loadtest.dto.HeavyRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,53 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: loadtest-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.loadtest.dto;
+
+public interface HeavyRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:HeavyRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The messageType.
+   */
+  java.lang.String getMessageType();
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The bytes for messageType.
+   */
+  com.google.protobuf.ByteString
+      getMessageTypeBytes();
+
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The messageId.
+   */
+  java.lang.String getMessageId();
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The bytes for messageId.
+   */
+  com.google.protobuf.ByteString
+      getMessageIdBytes();
+
+  /**
+   * <code>int32 cpuIterations = 3;</code>
+   * @return The cpuIterations.
+   */
+  int getCpuIterations();
+
+  /**
+   * <code>int32 sleepMillis = 4;</code>
+   * @return The sleepMillis.
+   */
+  int getSleepMillis();
+
+  /**
+   * <code>int32 payloadSize = 5;</code>
+   * @return The payloadSize.
+   */
+  int getPayloadSize();
+}
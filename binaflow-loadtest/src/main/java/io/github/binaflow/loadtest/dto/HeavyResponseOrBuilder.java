@@ -0,0 +1,47 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: loadtest-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.loadtest.dto;
+
+public interface HeavyResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:HeavyResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The messageType.
+   */
+  java.lang.String getMessageType();
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The bytes for messageType.
+   */
+  com.google.protobuf.ByteString
+      getMessageTypeBytes();
+
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The messageId.
+   */
+  java.lang.String getMessageId();
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The bytes for messageId.
+   */
+  com.google.protobuf.ByteString
+      getMessageIdBytes();
+
+  /**
+   * <code>int64 result = 3;</code>
+   * @return The result.
+   */
+  long getResult();
+
+  /**
+   * <code>bytes payload = 4;</code>
+   * @return The payload.
+   */
+  com.google.protobuf.ByteString getPayload();
+}
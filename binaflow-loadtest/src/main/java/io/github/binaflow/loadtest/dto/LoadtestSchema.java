@@ -0,0 +1,75 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: loadtest-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.loadtest.dto;
+
+public final class LoadtestSchema {
+  private LoadtestSchema() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 28,
+      /* patch= */ 3,
+      /* suffix= */ "",
+      LoadtestSchema.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_HeavyRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_HeavyRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_HeavyResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_HeavyResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\025loadtest-schema.proto\"w\n\014HeavyRequest\022" +
+      "\023\n\013messageType\030\001 \001(\t\022\021\n\tmessageId\030\002 \001(\t\022" +
+      "\025\n\rcpuIterations\030\003 \001(\005\022\023\n\013sleepMillis\030\004 " +
+      "\001(\005\022\023\n\013payloadSize\030\005 \001(\005\"X\n\rHeavyRespons" +
+      "e\022\023\n\013messageType\030\001 \001(\t\022\021\n\tmessageId\030\002 \001(" +
+      "\t\022\016\n\006result\030\003 \001(\003\022\017\n\007payload\030\004 \001(\014B#\n\037io" +
+      ".github.binaflow.loadtest.dtoP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_HeavyRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_HeavyRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_HeavyRequest_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "CpuIterations", "SleepMillis", "PayloadSize", });
+    internal_static_HeavyResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_HeavyResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_HeavyResponse_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "Result", "Payload", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
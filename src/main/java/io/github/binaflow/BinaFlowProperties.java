@@ -1,13 +1,114 @@
 package io.github.binaflow;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
 
 @ConfigurationProperties(prefix = "binaflow")
-public record BinaFlowProperties(Schema schema, String httpPath, UnhandledExceptions unhandledExceptions) {
+public record BinaFlowProperties(Schema schema,
+                                 String httpPath,
+                                 @DefaultValue UnhandledExceptions unhandledExceptions,
+                                 @DefaultValue Execution execution,
+                                 @DefaultValue Outbound outbound,
+                                 @DefaultValue Buffers buffers,
+                                 @DefaultValue Compact compact,
+                                 @DefaultValue Batch batch,
+                                 @DefaultValue Compression compression,
+                                 @DefaultValue Warmup warmup,
+                                 @DefaultValue RateLimit rateLimit,
+                                 @DefaultValue Cache cache,
+                                 @DefaultValue Publisher publisher) {
 
     public record Schema(String directory) {
     }
 
-    public record UnhandledExceptions(Boolean fillMessage, Boolean fillExceptionClass, Boolean fillStackTrace) {
+    public record UnhandledExceptions(@DefaultValue("false") Boolean fillMessage,
+                                      @DefaultValue("false") Boolean fillExceptionClass,
+                                      @DefaultValue("false") Boolean fillStackTrace) {
+    }
+
+    public record Execution(@DefaultValue("virtual-threads") Mode mode,
+                            @DefaultValue("false") Boolean concurrentPerSession,
+                            @DefaultValue("0") Integer poolSize,
+                            @DefaultValue("10000") Integer queueCapacity,
+                            @DefaultValue("1000") Integer sessionQueueCapacity) {
+
+        public enum Mode {
+            INLINE, VIRTUAL_THREADS, BOUNDED_POOL
+        }
+    }
+
+    public record Outbound(@DefaultValue("10s") Duration sendTimeLimit,
+                           @DefaultValue("512KB") DataSize bufferSizeLimit,
+                           @DefaultValue("close") OverflowPolicy overflowPolicy) {
+
+        public enum OverflowPolicy {
+            DROP, CLOSE, BLOCK
+        }
+    }
+
+    public record Buffers(@DefaultValue("false") Boolean enabled,
+                          @DefaultValue("false") Boolean direct,
+                          @DefaultValue("1MB") DataSize maxPooledSize,
+                          @DefaultValue("64") Integer maxPooledPerSizeClass) {
+    }
+
+    public record Compact(@DefaultValue("false") Boolean enabled) {
+    }
+
+    public record Batch(@DefaultValue("false") Boolean enabled,
+                        @DefaultValue("64KB") DataSize maxSize,
+                        @DefaultValue("1ms") Duration linger) {
+    }
+
+    public record Compression(@DefaultValue("false") Boolean enabled,
+                              @DefaultValue("8KB") DataSize threshold,
+                              @DefaultValue("1") Integer level,
+                              @DefaultValue("16MB") DataSize maxInflatedSize,
+                              @DefaultValue("16") Integer poolSize) {
+    }
+
+    public record Warmup(@DefaultValue("false") Boolean enabled,
+                         @DefaultValue("10000") Integer iterations,
+                         @DefaultValue("30s") Duration timeLimit) {
+    }
+
+    public record RateLimit(@DefaultValue("false") Boolean enabled,
+                            @DefaultValue("reject") Mode mode,
+                            Limit session,
+                            Limit global,
+                            @DefaultValue Map<String, Limit> messageTypes) {
+
+        public enum Mode {
+            REJECT, PAUSE
+        }
+
+        /**
+         * @param rate  messages per second, null - unlimited
+         * @param burst messages allowed at once, rate by default
+         */
+        public record Limit(Integer rate, Integer burst) {
+
+            public Limit {
+                if (burst == null) {
+                    burst = rate;
+                }
+            }
+        }
+    }
+
+    public record Cache(@DefaultValue("10000") Integer maxEntries,
+                        @DefaultValue("60s") Duration ttl,
+                        @DefaultValue("false") Boolean offHeap) {
+    }
+
+    public record Publisher(@DefaultValue("close") SlowSubscriberPolicy slowSubscriber) {
+
+        public enum SlowSubscriberPolicy {
+            DROP, CLOSE
+        }
     }
 }
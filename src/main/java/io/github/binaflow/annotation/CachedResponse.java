@@ -0,0 +1,29 @@
+package io.github.binaflow.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cache serialized responses of the {@link MessageMapping} method by the request.
+ * <p>Requests with the same fields (except messageType and messageId) get the cached response without parsing
+ * and without invoking the method, only messageId of the request is written into it.
+ * Use only for idempotent methods without side effects that return a single message.
+ * <p>The method must not have the WebSocketSession parameter: the cached response is shared by all sessions,
+ * so it must not depend on the session. Such a mapping is a binding error.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+
+    /**
+     * Time to live of a cached response, e.g. "30s". binaflow.cache.ttl by default.
+     */
+    String ttl() default "";
+
+    /**
+     * Maximum number of cached responses of the method, least recently used are evicted. binaflow.cache.max-entries by default.
+     */
+    int maxEntries() default 0;
+}
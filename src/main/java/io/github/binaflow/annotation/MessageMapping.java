@@ -14,4 +14,16 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface MessageMapping {
+
+    /**
+     * Invoke the method with sample messages during warmup (binaflow.warmup.enabled=true).
+     * Set to false for handlers with side effects.
+     */
+    boolean warmup() default true;
+
+    /**
+     * Name of a method of the controller without parameters that returns sample request messages for warmup:
+     * a message, an array or an {@link Iterable} of messages. By default the empty message is used.
+     */
+    String warmupSamples() default "";
 }
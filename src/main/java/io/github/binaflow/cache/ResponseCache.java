@@ -0,0 +1,202 @@
+package io.github.binaflow.cache;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of serialized responses of one handler (see {@link io.github.binaflow.annotation.CachedResponse}).
+ * <p>Key is the request payload without messageType and messageId fields ({@link #key(ByteBuffer, boolean)}).
+ * Value is the serialized response without messageId field. On a hit messageId of the request is written
+ * right after the leading messageType field, so compact clients still find the type id in the first bytes of the frame.
+ * <p>Entries are kept in striped LRU maps, so concurrent sessions rarely contend for one lock,
+ * and expire after the time to live. With off-heap store values are kept in direct buffers outside of the Java heap.
+ */
+public final class ResponseCache {
+
+    private static final int STRIPES = 16;
+    private static final int MESSAGE_TYPE_FIELD = 1;
+    private static final int MESSAGE_ID_FIELD = 2;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final long ttlNanos;
+    private final boolean offHeap;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseCache(int maxEntries, Duration ttl, boolean offHeap) {
+        if (maxEntries <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Max entries and ttl must be positive, but maxEntries=" + maxEntries + ", ttl=" + ttl);
+        }
+        var maxStripeEntries = Math.max(1, (maxEntries + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxStripeEntries);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * @param payload request payload, its position is not changed
+     * @param compact true if the request was sent with messageType as id, because the response is sent the same way
+     * @return request fields except messageType and messageId, with the compact flag
+     */
+    public static ByteBuffer key(ByteBuffer payload, boolean compact) throws IOException {
+        var key = new byte[payload.remaining() + 1];
+        key[0] = (byte) (compact ? 1 : 0);
+        var length = 1;
+        var input = CodedInputStream.newInstance(payload.duplicate());
+        while (true) {
+            var start = input.getTotalBytesRead();
+            var tag = input.readTag();
+            if (tag == 0) {
+                break;
+            }
+            if (!input.skipField(tag)) {
+                break;
+            }
+            var fieldNumber = WireFormat.getTagFieldNumber(tag);
+            if (fieldNumber != MESSAGE_TYPE_FIELD && fieldNumber != MESSAGE_ID_FIELD) {
+                var fieldLength = input.getTotalBytesRead() - start;
+                payload.get(payload.position() + start, key, length, fieldLength);
+                length += fieldLength;
+            }
+        }
+        return ByteBuffer.wrap(Arrays.copyOf(key, length));
+    }
+
+    /**
+     * @param messageId messageId of the request, written into the response
+     * @return cached response or null if it is not cached or expired
+     */
+    public BinaryMessage get(ByteBuffer key, String messageId) {
+        var entry = stripe(key).get(key);
+        if (entry == null || System.nanoTime() - entry.expiresAtNanos > 0) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.encode(messageId);
+    }
+
+    /**
+     * Cache the serialized response. The response is copied, so its payload can be reused after return.
+     */
+    public void put(ByteBuffer key, ByteBuffer response) throws IOException {
+        var fields = new byte[response.remaining()];
+        var length = 0;
+        var headLength = 0;
+        var input = CodedInputStream.newInstance(response.duplicate());
+        while (true) {
+            var start = input.getTotalBytesRead();
+            var tag = input.readTag();
+            if (tag == 0) {
+                break;
+            }
+            if (!input.skipField(tag)) {
+                break;
+            }
+            var fieldNumber = WireFormat.getTagFieldNumber(tag);
+            if (fieldNumber == MESSAGE_ID_FIELD) {
+                continue;
+            }
+            var fieldLength = input.getTotalBytesRead() - start;
+            response.get(response.position() + start, fields, length, fieldLength);
+            length += fieldLength;
+            if (start == 0 && fieldNumber == MESSAGE_TYPE_FIELD) {
+                headLength = fieldLength;
+            }
+        }
+        var value = offHeap
+                ? ByteBuffer.allocateDirect(length).put(fields, 0, length).flip()
+                : ByteBuffer.wrap(Arrays.copyOf(fields, length));
+        stripe(key).put(key, new Entry(value, headLength, System.nanoTime() + ttlNanos));
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        var size = 0;
+        for (var stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe stripe(ByteBuffer key) {
+        return stripes[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    /**
+     * LRU map guarded by its own lock.
+     */
+    private static final class Stripe {
+
+        private final Map<ByteBuffer, Entry> entries;
+
+        private Stripe(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Entry get(ByteBuffer key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(ByteBuffer key, Entry entry) {
+            entries.put(key, entry);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @param fields     serialized response without messageId, heap or direct buffer
+     * @param headLength length of the leading messageType field, 0 if the response doesn't start with it
+     */
+    private record Entry(ByteBuffer fields, int headLength, long expiresAtNanos) {
+
+        BinaryMessage encode(String messageId) {
+            // Payload is always a new array, because sent payloads can be returned to the buffer pool
+            var withMessageId = messageId != null && !messageId.isEmpty();
+            var length = fields.remaining();
+            var bytes = new byte[(withMessageId ? CodedOutputStream.computeStringSize(MESSAGE_ID_FIELD, messageId) : 0) + length];
+            fields.get(0, bytes, 0, headLength);
+            var position = headLength;
+            if (withMessageId) {
+                var output = CodedOutputStream.newInstance(bytes, headLength, bytes.length - length);
+                try {
+                    output.writeString(MESSAGE_ID_FIELD, messageId);
+                    output.checkNoSpaceLeft();
+                } catch (IOException e) {
+                    // Not possible situation, array is sized exactly.
+                    throw new IllegalStateException(e);
+                }
+                position = headLength + bytes.length - length;
+            }
+            fields.get(headLength, bytes, position, length - headLength);
+            return new BinaryMessage(bytes);
+        }
+    }
+}
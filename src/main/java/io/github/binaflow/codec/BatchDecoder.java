@@ -0,0 +1,44 @@
+package io.github.binaflow.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads messages of a {@code Batch} frame (see base-schema.proto).
+ * <p>Messages are returned as slices of the frame payload, nothing is copied.
+ * The position of the given buffer is not changed.
+ */
+public final class BatchDecoder {
+
+    static final int MESSAGES_TAG = 3 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private BatchDecoder() {
+    }
+
+    public static List<ByteBuffer> decode(ByteBuffer payload) throws IOException {
+        var buffer = payload.duplicate();
+        var input = CodedInputStream.newInstance(buffer);
+        var messages = new ArrayList<ByteBuffer>();
+        while (true) {
+            var tag = input.readTag();
+            if (tag == 0) {
+                return messages;
+            } else if (tag == MESSAGES_TAG) {
+                var length = input.readRawVarint32();
+                var offset = buffer.position() + input.getTotalBytesRead();
+                if (length < 0 || offset + length > buffer.limit()) {
+                    throw new IOException("Batch message length " + length + " exceeds the frame");
+                }
+                messages.add(buffer.slice(offset, length));
+                input.skipRawBytes(length);
+            } else if (!input.skipField(tag)) {
+                return messages;
+            }
+        }
+    }
+}
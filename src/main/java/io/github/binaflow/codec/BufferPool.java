@@ -0,0 +1,63 @@
+package io.github.binaflow.codec;
+
+import io.github.binaflow.BinaFlowProperties;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Pool of byte buffers with power of two size classes, from 256 bytes to binaflow.buffers.max-pooled-size.
+ * <p>Buffers bigger than max pooled size are allocated on every request and are not pooled.
+ * Buffers that are never released are collected by GC, so a lost buffer is not a leak.
+ */
+public class BufferPool {
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 8; // 256 bytes
+
+    private final boolean direct;
+    private final ArrayBlockingQueue<ByteBuffer>[] sizeClasses;
+
+    @SuppressWarnings("unchecked")
+    public BufferPool(BinaFlowProperties.Buffers properties) {
+        this.direct = properties.direct();
+        var sizeClassCount = sizeClassIndex((int) properties.maxPooledSize().toBytes()) + 1;
+        this.sizeClasses = new ArrayBlockingQueue[sizeClassCount];
+        for (int i = 0; i < sizeClassCount; i++) {
+            sizeClasses[i] = new ArrayBlockingQueue<>(properties.maxPooledPerSizeClass());
+        }
+    }
+
+    /**
+     * @return cleared buffer with capacity not less than size
+     */
+    public ByteBuffer acquire(int size) {
+        var index = sizeClassIndex(size);
+        if (index >= sizeClasses.length) {
+            return allocate(size);
+        }
+        var buffer = sizeClasses[index].poll();
+        return buffer != null ? buffer : allocate(1 << (index + MIN_SIZE_CLASS_SHIFT));
+    }
+
+    /**
+     * Return buffer acquired from this pool. Buffer must not be used after release.
+     */
+    public void release(ByteBuffer buffer) {
+        var capacity = buffer.capacity();
+        var index = sizeClassIndex(capacity);
+        if (buffer.isDirect() == direct && index < sizeClasses.length && capacity == 1 << (index + MIN_SIZE_CLASS_SHIFT)) {
+            sizeClasses[index].offer(buffer.clear());
+        }
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    static int sizeClassIndex(int size) {
+        if (size <= 1 << MIN_SIZE_CLASS_SHIFT) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SIZE_CLASS_SHIFT;
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.binaflow.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import io.github.binaflow.BinaFlowProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Selective compression of messages with {@code Compressed} frame (see base-schema.proto).
+ * <p>Only payloads not smaller than binaflow.compression.threshold are compressed (raw deflate, RFC 1951).
+ * If compressed payload is not smaller than the original one, the original is sent.
+ * <p>Deflaters and inflaters are kept in a bounded pool instead of thread locals,
+ * because with virtual threads every message can be handled on a new thread.
+ * Statistics for metrics are kept in {@link LongAdder}s.
+ */
+public class Compressor implements DisposableBean {
+
+    static final int PAYLOAD_TAG = 3 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final byte[] HEADER = header();
+    private static final int MAX_PREFIX_SIZE = HEADER.length + 1 + 5; // Header + payload tag + max varint32 length
+
+    private final int threshold;
+    private final int level;
+    private final int maxInflatedSize;
+    private final ArrayBlockingQueue<Deflater> deflaters;
+    private final ArrayBlockingQueue<Inflater> inflaters;
+    private final LongAdder deflateCount = new LongAdder();
+    private final LongAdder deflateNanos = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+    private final LongAdder incompressibleCount = new LongAdder();
+    private final LongAdder inflateCount = new LongAdder();
+    private final LongAdder inflateNanos = new LongAdder();
+
+    public Compressor(BinaFlowProperties.Compression properties) {
+        this.threshold = (int) properties.threshold().toBytes();
+        this.level = properties.level();
+        this.maxInflatedSize = (int) properties.maxInflatedSize().toBytes();
+        this.deflaters = new ArrayBlockingQueue<>(properties.poolSize());
+        this.inflaters = new ArrayBlockingQueue<>(properties.poolSize());
+    }
+
+    /**
+     * @return binaflow.compression.max-inflated-size in bytes
+     */
+    public int maxInflatedSize() {
+        return maxInflatedSize;
+    }
+
+    public boolean shouldCompress(int size) {
+        return size >= threshold;
+    }
+
+    /**
+     * @return Compressed frame or null if payload is not compressible
+     */
+    public BinaryMessage compress(ByteBuffer payload) {
+        var start = System.nanoTime();
+        var length = payload.remaining();
+        // Deflated payload is written after the space reserved for the header, the header is written when its size is known
+        var bytes = new byte[MAX_PREFIX_SIZE + length];
+        int deflatedLength;
+        boolean finished;
+        var deflater = acquireDeflater();
+        try {
+            deflater.setInput(payload.duplicate());
+            deflater.finish();
+            deflatedLength = deflater.deflate(bytes, MAX_PREFIX_SIZE, length);
+            finished = deflater.finished();
+        } finally {
+            releaseDeflater(deflater);
+        }
+        deflateCount.increment();
+        deflateNanos.add(System.nanoTime() - start);
+        if (!finished || deflatedLength >= length) {
+            incompressibleCount.increment();
+            return null;
+        }
+        var offset = MAX_PREFIX_SIZE - 1 - CodedOutputStream.computeUInt32SizeNoTag(deflatedLength) - HEADER.length;
+        var position = offset;
+        System.arraycopy(HEADER, 0, bytes, position, HEADER.length);
+        position += HEADER.length;
+        bytes[position++] = PAYLOAD_TAG;
+        var value = deflatedLength;
+        // Varint of the length
+        while ((value & ~0x7F) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position] = (byte) value;
+        var frameLength = MAX_PREFIX_SIZE + deflatedLength - offset;
+        savedBytes.add(length - frameLength);
+        return new BinaryMessage(ByteBuffer.wrap(bytes, offset, frameLength).slice());
+    }
+
+    /**
+     * @param frame Compressed frame
+     * @return original payload
+     * @throws IOException if frame is malformed or original payload exceeds binaflow.compression.max-inflated-size
+     */
+    public ByteBuffer decompress(ByteBuffer frame) throws IOException {
+        return decompress(frame, maxInflatedSize);
+    }
+
+    /**
+     * @param frame           Compressed frame
+     * @param maxInflatedSize maximum size of the original payload, e.g. what is left of binaflow.compression.max-inflated-size
+     *                        for all messages of one incoming frame
+     * @return original payload
+     * @throws IOException if frame is malformed or original payload exceeds maxInflatedSize
+     */
+    public ByteBuffer decompress(ByteBuffer frame, int maxInflatedSize) throws IOException {
+        var start = System.nanoTime();
+        var compressed = compressedPayload(frame);
+        var bytes = new byte[Math.min(maxInflatedSize, Math.max(256, compressed.remaining() * 4))];
+        var length = 0;
+        var inflater = acquireInflater();
+        try {
+            inflater.setInput(compressed);
+            while (!inflater.finished()) {
+                if (length == bytes.length) {
+                    if (bytes.length >= maxInflatedSize) {
+                        throw new IOException("Compressed message exceeds " + maxInflatedSize + " bytes");
+                    }
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(maxInflatedSize, bytes.length * 2L));
+                }
+                var inflated = inflater.inflate(bytes, length, bytes.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Compressed message is truncated");
+                }
+                length += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed message is malformed", e);
+        } finally {
+            releaseInflater(inflater);
+        }
+        inflateCount.increment();
+        inflateNanos.add(System.nanoTime() - start);
+        return ByteBuffer.wrap(bytes, 0, length);
+    }
+
+    public long deflateCount() {
+        return deflateCount.sum();
+    }
+
+    public long deflateNanos() {
+        return deflateNanos.sum();
+    }
+
+    /**
+     * @return bytes not sent thanks to compression
+     */
+    public long savedBytes() {
+        return savedBytes.sum();
+    }
+
+    /**
+     * @return count of payloads that were sent uncompressed, because compressed payload was not smaller
+     */
+    public long incompressibleCount() {
+        return incompressibleCount.sum();
+    }
+
+    public long inflateCount() {
+        return inflateCount.sum();
+    }
+
+    public long inflateNanos() {
+        return inflateNanos.sum();
+    }
+
+    @Override
+    public void destroy() {
+        Deflater deflater;
+        while ((deflater = deflaters.poll()) != null) {
+            deflater.end();
+        }
+        Inflater inflater;
+        while ((inflater = inflaters.poll()) != null) {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer compressedPayload(ByteBuffer frame) throws IOException {
+        var buffer = frame.duplicate();
+        var input = CodedInputStream.newInstance(buffer);
+        while (true) {
+            var tag = input.readTag();
+            if (tag == 0) {
+                throw new IOException("Compressed message has no payload");
+            } else if (tag == PAYLOAD_TAG) {
+                var length = input.readRawVarint32();
+                var offset = buffer.position() + input.getTotalBytesRead();
+                if (length < 0 || offset + length > buffer.limit()) {
+                    throw new IOException("Compressed payload length " + length + " exceeds the frame");
+                }
+                return buffer.slice(offset, length);
+            } else if (!input.skipField(tag)) {
+                throw new IOException("Compressed message has no payload");
+            }
+        }
+    }
+
+    private Deflater acquireDeflater() {
+        var deflater = deflaters.poll();
+        return deflater != null ? deflater : new Deflater(level, true);
+    }
+
+    private void releaseDeflater(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private Inflater acquireInflater() {
+        var inflater = inflaters.poll();
+        return inflater != null ? inflater : new Inflater(true);
+    }
+
+    private void releaseInflater(Inflater inflater) {
+        inflater.reset();
+        if (!inflaters.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @return serialized messageType field
+     */
+    private static byte[] header() {
+        var header = new byte[CodedOutputStream.computeStringSize(1, "Compressed")];
+        var output = CodedOutputStream.newInstance(header);
+        try {
+            output.writeString(1, "Compressed");
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Not possible situation, array is sized exactly.
+            throw new IllegalStateException(e);
+        }
+        return header;
+    }
+}
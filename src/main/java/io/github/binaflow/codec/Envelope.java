@@ -0,0 +1,21 @@
+package io.github.binaflow.codec;
+
+/**
+ * Routing fields of an incoming message.
+ * <p>Every DTO carries {@code string messageType = 1;} and {@code string messageId = 2;},
+ * so these two fields are enough to route a frame without decoding the whole payload.
+ * <p>In compact mode field 1 is sent as varint with id of message type instead of the string.
+ *
+ * @param messageType   value of field 1, empty string when absent or sent as id
+ * @param messageId     value of field 2, empty string when absent
+ * @param messageTypeId id of message type from field 1 in compact mode, 0 when absent or sent as string
+ */
+public record Envelope(String messageType, String messageId, int messageTypeId) {
+
+    /**
+     * @return true if messageType was sent as id
+     */
+    public boolean compact() {
+        return messageTypeId != 0;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.binaflow.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads only the routing fields (messageType and messageId) of a serialized message.
+ * <p>Decoding stops as soon as both fields are read, so the rest of the payload
+ * (e.g. big repeated fields) is not touched. Protobuf serializes fields in field number order,
+ * which means that for messages produced by protobuf libraries only the head of the frame is read.
+ * <p>messageType field can be sent as a string or as varint id of message type (compact mode).
+ * <p>The position of the given buffer is not changed, so the same buffer can be handed over to the typed parser.
+ */
+public final class EnvelopeDecoder {
+
+    static final int MESSAGE_TYPE_TAG = 1 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    static final int MESSAGE_TYPE_ID_TAG = 1 << 3 | WireFormat.WIRETYPE_VARINT;
+    static final int MESSAGE_ID_TAG = 2 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private EnvelopeDecoder() {
+    }
+
+    public static Envelope decode(ByteBuffer payload) throws IOException {
+        var input = CodedInputStream.newInstance(payload.duplicate());
+        String messageType = null;
+        String messageId = null;
+        var messageTypeId = 0;
+        while ((messageType == null && messageTypeId == 0) || messageId == null) {
+            var tag = input.readTag();
+            if (tag == 0) {
+                break;
+            } else if (tag == MESSAGE_TYPE_TAG && messageType == null) {
+                messageType = input.readStringRequireUtf8();
+            } else if (tag == MESSAGE_TYPE_ID_TAG && messageTypeId == 0) {
+                messageTypeId = input.readInt32();
+            } else if (tag == MESSAGE_ID_TAG && messageId == null) {
+                messageId = input.readStringRequireUtf8();
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+        return new Envelope(messageType == null ? "" : messageType, messageId == null ? "" : messageId, messageTypeId);
+    }
+}
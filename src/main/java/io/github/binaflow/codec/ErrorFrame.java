@@ -0,0 +1,52 @@
+package io.github.binaflow.codec;
+
+import com.google.protobuf.CodedOutputStream;
+import io.github.binaflow.exception.BinaFlowException;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.io.IOException;
+
+/**
+ * Serialized Error message for a common client error (e.g. unknown message type), prepared once.
+ * <p>Only messageId is written ahead of the serialized fields for every response,
+ * so a flood of bad messages doesn't build exceptions and Error messages.
+ */
+public final class ErrorFrame {
+
+    private final Class<? extends BinaFlowException> exceptionClass;
+    private final byte[] fields; // Serialized Error without messageId
+
+    public ErrorFrame(BinaFlowException exception) {
+        this.exceptionClass = exception.getClass();
+        exception.setMessageId(null);
+        this.fields = exception.toErrorMessage().toByteArray();
+    }
+
+    /**
+     * @return class of the exception the frame was made of, e.g. for metrics
+     */
+    public Class<? extends BinaFlowException> exceptionClass() {
+        return exceptionClass;
+    }
+
+    /**
+     * @param messageId messageId of the failed message, null if it is unknown
+     */
+    public BinaryMessage encode(String messageId) {
+        // Payload is always a new array, because sent payloads can be returned to the buffer pool
+        var withMessageId = messageId != null && !messageId.isEmpty();
+        var bytes = new byte[(withMessageId ? CodedOutputStream.computeStringSize(2, messageId) : 0) + fields.length];
+        var output = CodedOutputStream.newInstance(bytes);
+        try {
+            if (withMessageId) {
+                output.writeString(2, messageId);
+            }
+            output.writeRawBytes(fields);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Not possible situation, array is sized exactly.
+            throw new IllegalStateException(e);
+        }
+        return new BinaryMessage(bytes);
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.binaflow.codec;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.io.IOException;
+
+/**
+ * Serializes outgoing messages.
+ * <p>If buffer pool is enabled (binaflow.buffers.enabled), message is serialized straight into a pooled buffer
+ * sized by {@link MessageLite#getSerializedSize()}, otherwise into a new byte array.
+ * The caller owns the pooled payload and must return it with {@link #release(BinaryMessage)} after it is written.
+ */
+public class MessageEncoder {
+
+    private static final byte[] NO_PREFIX = new byte[0];
+
+    private final BufferPool bufferPool; // null if pooling is disabled
+
+    public MessageEncoder(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    public BinaryMessage encode(MessageLite message) throws IOException {
+        if (bufferPool == null) {
+            return new BinaryMessage(message.toByteArray());
+        }
+        return encode(message, NO_PREFIX);
+    }
+
+    /**
+     * Serialize message with already serialized fields written ahead of it.
+     * <p>Prefix is used to add fields that are not set in the message (e.g. messageType) without rebuilding the message.
+     * Field from the prefix must not be set in the message, otherwise the value from the message wins on the client.
+     *
+     * @param prefix serialized fields (tag + value)
+     */
+    public BinaryMessage encode(MessageLite message, byte[] prefix) throws IOException {
+        return encode(message, prefix, NO_PREFIX);
+    }
+
+    /**
+     * Serialize message with two prefixes (e.g. messageType and messageId) written ahead of it.
+     *
+     * @see #encode(MessageLite, byte[])
+     */
+    public BinaryMessage encode(MessageLite message, byte[] prefix, byte[] secondPrefix) throws IOException {
+        var size = prefix.length + secondPrefix.length + message.getSerializedSize();
+        if (bufferPool == null) {
+            var bytes = new byte[size];
+            var output = CodedOutputStream.newInstance(bytes);
+            output.writeRawBytes(prefix);
+            output.writeRawBytes(secondPrefix);
+            message.writeTo(output);
+            output.checkNoSpaceLeft();
+            return new BinaryMessage(bytes);
+        }
+        var buffer = bufferPool.acquire(size);
+        try {
+            var output = CodedOutputStream.newInstance(buffer);
+            output.writeRawBytes(prefix);
+            output.writeRawBytes(secondPrefix);
+            message.writeTo(output);
+            output.flush();
+        } catch (IOException | RuntimeException e) {
+            bufferPool.release(buffer);
+            throw e;
+        }
+        return new BinaryMessage(buffer.flip());
+    }
+
+    /**
+     * @return true if payloads of encoded messages are taken from the pool
+     */
+    public boolean isPooled() {
+        return bufferPool != null;
+    }
+
+    /**
+     * Return payload of the message encoded by this encoder to the pool.
+     */
+    public void release(BinaryMessage message) {
+        if (bufferPool != null) {
+            bufferPool.release(message.getPayload());
+        }
+    }
+}
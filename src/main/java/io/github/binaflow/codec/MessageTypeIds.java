@@ -0,0 +1,75 @@
+package io.github.binaflow.codec;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Numeric ids of message types for compact mode.
+ * <p>Ids are assigned from 1 in alphabetical order of message types, so the same schema always gives the same ids.
+ * Clients must take ids from {@code MessageTypeTable} message sent after connection, not hardcode them.
+ */
+public final class MessageTypeIds {
+
+    private final Map<String, Integer> ids; // Key - message type
+    private final String[] messageTypes; // Index - id
+    private final Map<String, byte[]> prefixes; // Key - message type, value - serialized field 1 with id
+
+    public MessageTypeIds(Collection<String> messageTypes) {
+        var sorted = new TreeSet<>(messageTypes);
+        this.ids = new HashMap<>();
+        this.messageTypes = new String[sorted.size() + 1];
+        this.prefixes = new HashMap<>();
+        var id = 1;
+        for (var messageType : sorted) {
+            ids.put(messageType, id);
+            this.messageTypes[id] = messageType;
+            prefixes.put(messageType, prefix(id));
+            id++;
+        }
+    }
+
+    /**
+     * @return message type or null if id is unknown
+     */
+    public String messageType(int id) {
+        return id > 0 && id < messageTypes.length ? messageTypes[id] : null;
+    }
+
+    /**
+     * @return serialized messageType field with id (tag + varint), null if message type is unknown
+     */
+    public byte[] prefix(String messageType) {
+        return prefixes.get(messageType);
+    }
+
+    /**
+     * @return max id
+     */
+    public int maxId() {
+        return messageTypes.length - 1;
+    }
+
+    public Map<String, Integer> ids() {
+        return Map.copyOf(ids);
+    }
+
+    private static byte[] prefix(int id) {
+        var prefix = new byte[CodedOutputStream.computeInt32Size(1, id)];
+        var output = CodedOutputStream.newInstance(prefix);
+        try {
+            output.writeTag(1, WireFormat.WIRETYPE_VARINT);
+            output.writeInt32NoTag(id);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Not possible situation, array is sized exactly.
+            throw new IllegalStateException(e);
+        }
+        return prefix;
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.binaflow.codec;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.google.protobuf.WireFormat;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Routing metadata of a response message class, resolved once per class.
+ * <p>Holds the expected messageType value (simple class name), a getter of messageType field
+ * and the serialized messageType field (tag + value) that can be written ahead of the message
+ * when the handler did not set it, so the message is not rebuilt.
+ */
+public final class ResponseType {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ResponseType.class);
+    private static final byte[] NO_PREFIX = new byte[0];
+
+    private final String messageType;
+    private final Descriptors.FieldDescriptor messageTypeField; // null if message has no string field 1
+    private final Function<Object, Object> messageTypeGetter;
+    private final byte[] messageTypePrefix;
+    private final Function<Object, Object> messageIdGetter; // null if message has no string field 2
+
+    private ResponseType(Class<? extends Message> messageClass, Message defaultInstance) {
+        this.messageType = messageClass.getSimpleName();
+        var messageIdField = defaultInstance.getDescriptorForType().findFieldByNumber(2);
+        this.messageIdGetter = isString(messageIdField) ? getter(messageClass, messageIdField) : null;
+        var field = defaultInstance.getDescriptorForType().findFieldByNumber(1);
+        if (!isString(field)) {
+            log.warn("Message '{}' has no 'string messageType = 1;' field", messageClass.getName());
+            this.messageTypeField = null;
+            this.messageTypeGetter = message -> messageType;
+            this.messageTypePrefix = NO_PREFIX;
+            return;
+        }
+        this.messageTypeField = field;
+        this.messageTypeGetter = getter(messageClass, field);
+        this.messageTypePrefix = stringField(1, messageType);
+    }
+
+    private static boolean isString(Descriptors.FieldDescriptor field) {
+        return field != null && field.getType() == Descriptors.FieldDescriptor.Type.STRING && !field.isRepeated();
+    }
+
+    /**
+     * @return serialized string field (tag + value)
+     */
+    public static byte[] stringField(int fieldNumber, String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        var field = new byte[CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(bytes.length) + bytes.length];
+        var output = CodedOutputStream.newInstance(field);
+        try {
+            output.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(bytes.length);
+            output.writeRawBytes(bytes);
+            output.checkNoSpaceLeft();
+        } catch (java.io.IOException e) {
+            // Not possible situation, array is sized exactly.
+            throw new IllegalStateException(e);
+        }
+        return field;
+    }
+
+    static ResponseType of(Class<? extends Message> messageClass) {
+        try {
+            var defaultInstance = (Message) messageClass.getMethod("getDefaultInstance").invoke(null);
+            return new ResponseType(messageClass, defaultInstance);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Class '" + messageClass.getName() + "' is not a generated protobuf message", e);
+        }
+    }
+
+    /**
+     * @return expected value of messageType field (simple class name)
+     */
+    public String messageType() {
+        return messageType;
+    }
+
+    public Descriptors.FieldDescriptor messageTypeField() {
+        return messageTypeField;
+    }
+
+    /**
+     * @return current value of messageType field of the message
+     */
+    public Object messageTypeOf(Message message) {
+        return messageTypeGetter.apply(message);
+    }
+
+    /**
+     * @return true if the message has messageId field and it is empty, so messageId can be written ahead of the message
+     */
+    public boolean messageIdMissing(Message message) {
+        return messageIdGetter != null && "".equals(messageIdGetter.apply(message));
+    }
+
+    /**
+     * @return serialized messageType field with expected value, empty if message has no messageType field
+     */
+    public byte[] messageTypePrefix() {
+        return messageTypePrefix;
+    }
+
+    /**
+     * Generated getter (e.g. getMessageType()) is called through a generated lambda,
+     * instead of reflective {@link Message#getField}.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Class<?> messageClass, Descriptors.FieldDescriptor field) {
+        var getterName = "get" + Character.toUpperCase(field.getJsonName().charAt(0)) + field.getJsonName().substring(1);
+        try {
+            var lookup = MethodHandles.privateLookupIn(messageClass, MethodHandles.lookup());
+            var getter = lookup.findVirtual(messageClass, getterName, MethodType.methodType(String.class));
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    getter,
+                    getter.type()
+            ).getTarget().invoke();
+        } catch (Throwable e) {
+            log.debug("Unable to generate getter '{}' for '{}'. Reflective access will be used.", getterName, messageClass, e);
+            return message -> ((Message) message).getField(field);
+        }
+    }
+}
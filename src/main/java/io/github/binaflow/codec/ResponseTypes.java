@@ -0,0 +1,24 @@
+package io.github.binaflow.codec;
+
+import com.google.protobuf.Message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link ResponseType} by message class.
+ * <p>Response types of handler methods are resolved at startup, other classes are resolved on first use.
+ */
+public class ResponseTypes {
+
+    private final Map<Class<?>, ResponseType> responseTypes = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public ResponseType get(Class<?> messageClass) {
+        var responseType = responseTypes.get(messageClass);
+        if (responseType == null) {
+            responseType = responseTypes.computeIfAbsent(messageClass, c -> ResponseType.of((Class<? extends Message>) c));
+        }
+        return responseType;
+    }
+}
@@ -1,9 +1,19 @@
 package io.github.binaflow.config;
 
 import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.codec.BufferPool;
+import io.github.binaflow.codec.Compressor;
+import io.github.binaflow.codec.MessageEncoder;
 import io.github.binaflow.controller.PingController;
+import io.github.binaflow.execution.AdmissionControl;
+import io.github.binaflow.execution.DispatchExecutor;
+import io.github.binaflow.metrics.BinaFlowMetrics;
+import io.github.binaflow.publish.BinaFlowPublisher;
 import io.github.binaflow.service.BinaFlowService;
+import io.github.binaflow.session.SessionRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +21,7 @@ import org.springframework.context.annotation.Configuration;
 
 /**
  * Autoconfiguration for BinaFlow.
- * <p>Instantiate the {@link BinaFlowService} and {@link PingController} beans if they are not already defined.
+ * <p>Instantiate the {@link BinaFlowService}, {@link DispatchExecutor}, {@link SessionRegistry}, {@link MessageEncoder}, {@link BinaFlowPublisher} and {@link PingController} beans if they are not already defined.
  */
 @Configuration
 @EnableConfigurationProperties(BinaFlowProperties.class)
@@ -25,8 +35,62 @@ public class BinaFlowAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public BinaFlowService binaFlowService(BinaFlowProperties properties) {
-        return new BinaFlowService(properties, applicationContext);
+    public DispatchExecutor dispatchExecutor(BinaFlowProperties properties) {
+        return new DispatchExecutor(properties.execution());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "binaflow.rate-limit.enabled", havingValue = "true")
+    public AdmissionControl admissionControl(BinaFlowProperties properties) {
+        return new AdmissionControl(properties.rateLimit());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "binaflow.buffers.enabled", havingValue = "true")
+    public BufferPool bufferPool(BinaFlowProperties properties) {
+        return new BufferPool(properties.buffers());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "binaflow.compression.enabled", havingValue = "true")
+    public Compressor compressor(BinaFlowProperties properties) {
+        return new Compressor(properties.compression());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MessageEncoder messageEncoder(ObjectProvider<BufferPool> bufferPool) {
+        return new MessageEncoder(bufferPool.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SessionRegistry sessionRegistry(BinaFlowProperties properties, MessageEncoder messageEncoder, ObjectProvider<Compressor> compressor) {
+        return new SessionRegistry(properties.outbound(), properties.batch(), messageEncoder, compressor.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BinaFlowService binaFlowService(BinaFlowProperties properties,
+                                           DispatchExecutor dispatchExecutor,
+                                           SessionRegistry sessionRegistry,
+                                           ObjectProvider<BinaFlowMetrics> metrics,
+                                           ObjectProvider<Compressor> compressor,
+                                           ObjectProvider<AdmissionControl> admissionControl) {
+        return new BinaFlowService(properties, applicationContext, dispatchExecutor, sessionRegistry,
+                metrics.getIfAvailable(() -> BinaFlowMetrics.NOOP), compressor.getIfAvailable(), admissionControl.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BinaFlowPublisher binaFlowPublisher(BinaFlowProperties properties,
+                                               SessionRegistry sessionRegistry,
+                                               ObjectProvider<BinaFlowMetrics> metrics,
+                                               ObjectProvider<Compressor> compressor) {
+        return new BinaFlowPublisher(properties, sessionRegistry, metrics.getIfAvailable(() -> BinaFlowMetrics.NOOP), compressor.getIfAvailable());
     }
 
     @Bean
@@ -0,0 +1,25 @@
+package io.github.binaflow.config;
+
+import io.github.binaflow.health.BinaFlowHealthIndicator;
+import io.github.binaflow.service.BinaFlowService;
+import io.github.binaflow.session.SessionRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Autoconfiguration for BinaFlow health indicator.
+ * <p>Active only if Spring Boot Actuator is on the classpath. The indicator is registered as 'binaflow'.
+ */
+@Configuration
+@ConditionalOnClass(HealthIndicator.class)
+public class BinaFlowHealthAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(name = "binaflowHealthIndicator")
+    public BinaFlowHealthIndicator binaflowHealthIndicator(BinaFlowService binaFlowService, SessionRegistry sessionRegistry) {
+        return new BinaFlowHealthIndicator(binaFlowService, sessionRegistry);
+    }
+}
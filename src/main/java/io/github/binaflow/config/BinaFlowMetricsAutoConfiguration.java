@@ -0,0 +1,43 @@
+package io.github.binaflow.config;
+
+import io.github.binaflow.codec.Compressor;
+import io.github.binaflow.metrics.BinaFlowMetrics;
+import io.github.binaflow.metrics.CompressionMetrics;
+import io.github.binaflow.metrics.MicrometerBinaFlowMetrics;
+import io.github.binaflow.metrics.OutboundBufferMetrics;
+import io.github.binaflow.session.SessionRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Autoconfiguration for BinaFlow metrics.
+ * <p>Active only if Micrometer is on the classpath. Meter binders are bound to the application's MeterRegistry.
+ * Without MeterRegistry {@link MicrometerBinaFlowMetrics} stays unbound and records nothing.
+ */
+@Configuration
+@ConditionalOnClass(MeterBinder.class)
+public class BinaFlowMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboundBufferMetrics outboundBufferMetrics(SessionRegistry sessionRegistry) {
+        return new OutboundBufferMetrics(sessionRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "binaflow.compression.enabled", havingValue = "true")
+    public CompressionMetrics compressionMetrics(Compressor compressor) {
+        return new CompressionMetrics(compressor);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(BinaFlowMetrics.class)
+    public MicrometerBinaFlowMetrics binaFlowMetrics(SessionRegistry sessionRegistry) {
+        return new MicrometerBinaFlowMetrics(sessionRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.binaflow.config;
+
+import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.codec.MessageEncoder;
+import io.github.binaflow.execution.AdmissionControl;
+import io.github.binaflow.reactive.BinaFlowUpgradeHandler;
+import io.github.binaflow.reactive.BinaFlowWebSocketHandler;
+import io.github.binaflow.service.BinaFlowService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+
+import java.util.Map;
+
+/**
+ * Autoconfiguration for BinaFlow in reactive web applications (WebFlux).
+ * <p>Register the {@link BinaFlowWebSocketHandler} on the specified path instead of the servlet handler.
+ * Requests are upgraded by {@link BinaFlowUpgradeHandler}, so the upgrade strategy matches the server (e.g. Reactor Netty).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(WebSocketHandler.class)
+public class BinaFlowReactiveAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BinaFlowWebSocketHandler binaFlowWebSocketHandler(BinaFlowService binaFlowService,
+                                                             ObjectProvider<AdmissionControl> admissionControl,
+                                                             MessageEncoder messageEncoder) {
+        return new BinaFlowWebSocketHandler(binaFlowService, admissionControl.getIfAvailable(), messageEncoder);
+    }
+
+    @Bean
+    public HandlerMapping binaFlowHandlerMapping(BinaFlowProperties properties, BinaFlowWebSocketHandler binaFlowWebSocketHandler) {
+        return new SimpleUrlHandlerMapping(Map.of(properties.httpPath(), new BinaFlowUpgradeHandler(binaFlowWebSocketHandler)),
+                Ordered.HIGHEST_PRECEDENCE);
+    }
+}
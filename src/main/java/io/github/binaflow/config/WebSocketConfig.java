@@ -2,6 +2,7 @@ package io.github.binaflow.config;
 
 import io.github.binaflow.BinaFlowProperties;
 import io.github.binaflow.service.BinaFlowService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
@@ -9,9 +10,10 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 
 /**
  * Autoconfiguration for BinaFlow.
- * <p>Register the {@link BinaFlowService} as a WebSocket handler on the specified path.
+ * <p>Register the {@link BinaFlowService} as a WebSocket handler on the specified path in servlet web applications.
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSocket
 public class WebSocketConfig implements WebSocketConfigurer {
 
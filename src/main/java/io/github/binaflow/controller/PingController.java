@@ -13,8 +13,8 @@ public class PingController {
 
     @MessageMapping
     public Pong pingHandler(Ping ping) {
+        // messageType is set by BinaFlowService, as string or as id in compact mode
         return Pong.newBuilder()
-                .setMessageType("Pong")
                 .setMessageId(ping.getMessageId())
                 .build();
     }
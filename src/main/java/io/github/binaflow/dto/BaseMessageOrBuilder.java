@@ -0,0 +1,51 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: base-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.dto;
+
+public interface BaseMessageOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:BaseMessage)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * The field must have value same as it message type name, for example BaseMessage, PingRq, etc...
+   * </pre>
+   *
+   * <code>string messageType = 1;</code>
+   * @return The messageType.
+   */
+  java.lang.String getMessageType();
+  /**
+   * <pre>
+   * The field must have value same as it message type name, for example BaseMessage, PingRq, etc...
+   * </pre>
+   *
+   * <code>string messageType = 1;</code>
+   * @return The bytes for messageType.
+   */
+  com.google.protobuf.ByteString
+      getMessageTypeBytes();
+
+  /**
+   * <pre>
+   * Unique message identifier. Needed for request-response correlation.
+   * </pre>
+   *
+   * <code>string messageId = 2;</code>
+   * @return The messageId.
+   */
+  java.lang.String getMessageId();
+  /**
+   * <pre>
+   * Unique message identifier. Needed for request-response correlation.
+   * </pre>
+   *
+   * <code>string messageId = 2;</code>
+   * @return The bytes for messageId.
+   */
+  com.google.protobuf.ByteString
+      getMessageIdBytes();
+}
@@ -0,0 +1,163 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: base-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.dto;
+
+public final class BaseSchema {
+  private BaseSchema() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 28,
+      /* patch= */ 3,
+      /* suffix= */ "",
+      BaseSchema.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_BaseMessage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_BaseMessage_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Error_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Error_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_MessageTypeTable_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_MessageTypeTable_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_MessageTypeTable_IdsEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_MessageTypeTable_IdsEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Batch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Batch_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Compressed_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Compressed_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StreamEnd_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_StreamEnd_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Ping_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Ping_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Pong_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Pong_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\021base-schema.proto\"5\n\013BaseMessage\022\023\n\013me" +
+      "ssageType\030\001 \001(\t\022\021\n\tmessageId\030\002 \001(\t\"~\n\005Er" +
+      "ror\022\023\n\013messageType\030\001 \001(\t\022\021\n\tmessageId\030\002 " +
+      "\001(\t\022\014\n\004type\030\003 \001(\t\022\r\n\005title\030\004 \001(\t\022\016\n\006stat" +
+      "us\030\005 \001(\005\022\016\n\006detail\030\006 \001(\t\022\020\n\010instance\030\007 \001" +
+      "(\t\"\217\001\n\020MessageTypeTable\022\023\n\013messageType\030\001" +
+      " \001(\t\022\021\n\tmessageId\030\002 \001(\t\022\'\n\003ids\030\003 \003(\0132\032.M" +
+      "essageTypeTable.IdsEntry\032*\n\010IdsEntry\022\013\n\003" +
+      "key\030\001 \001(\t\022\r\n\005value\030\002 \001(\005:\0028\001\"A\n\005Batch\022\023\n" +
+      "\013messageType\030\001 \001(\t\022\021\n\tmessageId\030\002 \001(\t\022\020\n" +
+      "\010messages\030\003 \003(\014\"E\n\nCompressed\022\023\n\013message" +
+      "Type\030\001 \001(\t\022\021\n\tmessageId\030\002 \001(\t\022\017\n\007payload" +
+      "\030\003 \001(\014\"B\n\tStreamEnd\022\023\n\013messageType\030\001 \001(\t" +
+      "\022\021\n\tmessageId\030\002 \001(\t\022\r\n\005count\030\003 \001(\003\".\n\004Pi" +
+      "ng\022\023\n\013messageType\030\001 \001(\t\022\021\n\tmessageId\030\002 \001" +
+      "(\t\".\n\004Pong\022\023\n\013messageType\030\001 \001(\t\022\021\n\tmessa" +
+      "geId\030\002 \001(\tB\032\n\026io.github.binaflow.dtoP\001b\006" +
+      "proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_BaseMessage_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_BaseMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_BaseMessage_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", });
+    internal_static_Error_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Error_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Error_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "Type", "Title", "Status", "Detail", "Instance", });
+    internal_static_MessageTypeTable_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_MessageTypeTable_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_MessageTypeTable_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "Ids", });
+    internal_static_MessageTypeTable_IdsEntry_descriptor =
+      internal_static_MessageTypeTable_descriptor.getNestedTypes().get(0);
+    internal_static_MessageTypeTable_IdsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_MessageTypeTable_IdsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_Batch_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_Batch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Batch_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "Messages", });
+    internal_static_Compressed_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_Compressed_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Compressed_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "Payload", });
+    internal_static_StreamEnd_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_StreamEnd_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_StreamEnd_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", "Count", });
+    internal_static_Ping_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_Ping_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Ping_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", });
+    internal_static_Pong_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_Pong_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Pong_descriptor,
+        new java.lang.String[] { "MessageType", "MessageId", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,64 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: base-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.dto;
+
+public interface BatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:Batch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The messageType.
+   */
+  java.lang.String getMessageType();
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The bytes for messageType.
+   */
+  com.google.protobuf.ByteString
+      getMessageTypeBytes();
+
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The messageId.
+   */
+  java.lang.String getMessageId();
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The bytes for messageId.
+   */
+  com.google.protobuf.ByteString
+      getMessageIdBytes();
+
+  /**
+   * <pre>
+   * Serialized messages
+   * </pre>
+   *
+   * <code>repeated bytes messages = 3;</code>
+   * @return A list containing the messages.
+   */
+  java.util.List<com.google.protobuf.ByteString> getMessagesList();
+  /**
+   * <pre>
+   * Serialized messages
+   * </pre>
+   *
+   * <code>repeated bytes messages = 3;</code>
+   * @return The count of messages.
+   */
+  int getMessagesCount();
+  /**
+   * <pre>
+   * Serialized messages
+   * </pre>
+   *
+   * <code>repeated bytes messages = 3;</code>
+   * @param index The index of the element to return.
+   * @return The messages at the given index.
+   */
+  com.google.protobuf.ByteString getMessages(int index);
+}
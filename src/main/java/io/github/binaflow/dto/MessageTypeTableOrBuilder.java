@@ -0,0 +1,87 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: base-schema.proto
+// Protobuf Java Version: 4.28.3
+
+package io.github.binaflow.dto;
+
+public interface MessageTypeTableOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:MessageTypeTable)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The messageType.
+   */
+  java.lang.String getMessageType();
+  /**
+   * <code>string messageType = 1;</code>
+   * @return The bytes for messageType.
+   */
+  com.google.protobuf.ByteString
+      getMessageTypeBytes();
+
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The messageId.
+   */
+  java.lang.String getMessageId();
+  /**
+   * <code>string messageId = 2;</code>
+   * @return The bytes for messageId.
+   */
+  com.google.protobuf.ByteString
+      getMessageIdBytes();
+
+  /**
+   * <pre>
+   * Key - message type, value - id
+   * </pre>
+   *
+   * <code>map&lt;string, int32&gt; ids = 3;</code>
+   */
+  int getIdsCount();
+  /**
+   * <pre>
+   * Key - message type, value - id
+   * </pre>
+   *
+   * <code>map&lt;string, int32&gt; ids = 3;</code>
+   */
+  boolean containsIds(
+      java.lang.String key);
+  /**
+   * Use {@link #getIdsMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, java.lang.Integer>
+  getIds();
+  /**
+   * <pre>
+   * Key - message type, value - id
+   * </pre>
+   *
+   * <code>map&lt;string, int32&gt; ids = 3;</code>
+   */
+  java.util.Map<java.lang.String, java.lang.Integer>
+  getIdsMap();
+  /**
+   * <pre>
+   * Key - message type, value - id
+   * </pre>
+   *
+   * <code>map&lt;string, int32&gt; ids = 3;</code>
+   */
+  int getIdsOrDefault(
+      java.lang.String key,
+      int defaultValue);
+  /**
+   * <pre>
+   * Key - message type, value - id
+   * </pre>
+   *
+   * <code>map&lt;string, int32&gt; ids = 3;</code>
+   */
+  int getIdsOrThrow(
+      java.lang.String key);
+}
@@ -24,16 +24,27 @@ public class BinaFlowException extends NestedRuntimeException {
         problemDetail = ProblemDetail.forStatus(500);
     }
 
+    /**
+     * @return Error message, fields without value (e.g. messageId of a message that can't be decoded) are not set
+     */
     public Error toErrorMessage() {
-        return Error.newBuilder()
+        var error = Error.newBuilder()
                 .setMessageType("Error")
-                .setMessageId(messageId)
                 .setType(problemDetail.getType().toString())
-                .setTitle(problemDetail.getTitle())
-                .setStatus(problemDetail.getStatus())
-                .setDetail(problemDetail.getDetail())
-                .setInstance(String.valueOf(problemDetail.getInstance()))
-                .build();
+                .setStatus(problemDetail.getStatus());
+        if (messageId != null) {
+            error.setMessageId(messageId);
+        }
+        if (problemDetail.getTitle() != null) {
+            error.setTitle(problemDetail.getTitle());
+        }
+        if (problemDetail.getDetail() != null) {
+            error.setDetail(problemDetail.getDetail());
+        }
+        if (problemDetail.getInstance() != null) {
+            error.setInstance(problemDetail.getInstance().toString());
+        }
+        return error.build();
     }
 
     public ProblemDetail getProblemDetail() {
@@ -9,6 +9,7 @@ public class EmptyMessageTypeException extends BinaFlowException {
         super("Message type is empty");
 //        problemDetail.setType("URI");
         problemDetail.setTitle("Message type is empty");
-        problemDetail.setDetail("Message type is empty");
+        problemDetail.setStatus(400);
+        problemDetail.setDetail("Client sent empty message type field");
     }
 }
@@ -0,0 +1,19 @@
+package io.github.binaflow.exception;
+
+/**
+ * Exception thrown when message can't be decoded, e.g. it is not a valid protobuf message.
+ */
+public class MalformedMessageException extends BinaFlowException {
+
+    public MalformedMessageException() {
+        super("Malformed message");
+        problemDetail.setTitle("Malformed message");
+        problemDetail.setStatus(400);
+        problemDetail.setDetail("Message can't be decoded");
+    }
+
+    public MalformedMessageException(Throwable cause) {
+        this();
+        initCause(cause);
+    }
+}
@@ -5,6 +5,13 @@ package io.github.binaflow.exception;
  */
 public class MessageTypeNotFoundException extends BinaFlowException {
 
+    public MessageTypeNotFoundException() {
+        super("Message type not found");
+        problemDetail.setTitle("Message type not found");
+        problemDetail.setStatus(400);
+        problemDetail.setDetail("Message type not found or has no handler");
+    }
+
     public MessageTypeNotFoundException(String messageType) {
         super("Message type not found");
 //        problemDetail.setType("URI");
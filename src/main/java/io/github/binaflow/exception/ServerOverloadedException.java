@@ -0,0 +1,14 @@
+package io.github.binaflow.exception;
+
+/**
+ * Exception thrown when message can't be accepted for handling because the server is overloaded.
+ */
+public class ServerOverloadedException extends BinaFlowException {
+
+    public ServerOverloadedException(Throwable cause) {
+        super("Server is overloaded", cause);
+        problemDetail.setTitle("Server is overloaded");
+        problemDetail.setStatus(503);
+        problemDetail.setDetail("Server is overloaded. Try again later");
+    }
+}
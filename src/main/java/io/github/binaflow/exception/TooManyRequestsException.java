@@ -0,0 +1,14 @@
+package io.github.binaflow.exception;
+
+/**
+ * Exception thrown when message is rejected because the client exceeded a rate limit (binaflow.rate-limit).
+ */
+public class TooManyRequestsException extends BinaFlowException {
+
+    public TooManyRequestsException() {
+        super("Too many requests");
+        problemDetail.setTitle("Too many requests");
+        problemDetail.setStatus(429);
+        problemDetail.setDetail("Rate limit exceeded. Try again later");
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.binaflow.execution;
+
+import io.github.binaflow.BinaFlowProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Rate limits of incoming messages (binaflow.rate-limit) per session, per message type and global,
+ * checked on the I/O thread after the message type is known, but before the message is parsed.
+ * <p>Modes (binaflow.rate-limit.mode):<br>
+ * - reject - message over any limit is answered with {@code Error} 429 and is not handled.<br>
+ * - pause - message is handled, but reading from the socket of the session is paused until it is within the limits,
+ * so the client is slowed down by TCP backpressure. Reading is suspended on Tomcat,
+ * other servlet containers block the I/O thread of the session for the pause.
+ * The reactive transport delays the demand for the next message instead ({@link #takePauseNanos(String)}).
+ * <p>Every limit is a lock-free {@link TokenBucket}. Limits of message types are shared by all sessions.
+ * A message rejected by one limit gives back tokens already taken from the other limits.
+ */
+public class AdmissionControl implements DisposableBean {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(AdmissionControl.class);
+    private static final boolean TOMCAT_PRESENT = ClassUtils.isPresent("org.apache.tomcat.websocket.WsSession", AdmissionControl.class.getClassLoader());
+
+    private final boolean pause;
+    private final BinaFlowProperties.RateLimit.Limit sessionLimit; // null if unlimited
+    private final TokenBucket globalBucket; // null if unlimited
+    private final Map<String, TokenBucket> messageTypeBuckets = new HashMap<>(); // Key - message type, read only after construction
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>(); // Key - session id
+    private final ScheduledExecutorService resumeScheduler; // null in reject mode
+
+    public AdmissionControl(BinaFlowProperties.RateLimit properties) {
+        this.pause = properties.mode() == BinaFlowProperties.RateLimit.Mode.PAUSE;
+        this.sessionLimit = properties.session();
+        this.globalBucket = bucket(properties.global());
+        properties.messageTypes().forEach((messageType, limit) -> {
+            var bucket = bucket(limit);
+            if (bucket != null) {
+                messageTypeBuckets.put(messageType, bucket);
+            }
+        });
+        if (pause) {
+            var threadFactory = new CustomizableThreadFactory("binaflow-resume-");
+            threadFactory.setDaemon(true);
+            this.resumeScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        } else {
+            this.resumeScheduler = null;
+        }
+        log.info("Rate limits in mode '{}'. Session: {}, global: {}, message types: {}",
+                properties.mode(), properties.session(), properties.global(), properties.messageTypes());
+    }
+
+    private static TokenBucket bucket(BinaFlowProperties.RateLimit.Limit limit) {
+        return limit == null || limit.rate() == null ? null : new TokenBucket(limit.rate(), limit.burst());
+    }
+
+    /**
+     * Take tokens of the session, message type and global limits for one message.
+     *
+     * @return false if the message must be rejected. Always true in pause mode,
+     * the time to pause is taken by {@link #pause(WebSocketSession)} or {@link #takePauseNanos(String)}.
+     */
+    public boolean admit(String sessionId, String messageType) {
+        var session = sessionState(sessionId);
+        var typeBucket = messageTypeBuckets.isEmpty() ? null : messageTypeBuckets.get(messageType);
+        if (pause) {
+            var waitNanos = 0L;
+            if (session.bucket != null) {
+                waitNanos = session.bucket.acquire();
+            }
+            if (typeBucket != null) {
+                waitNanos = Math.max(waitNanos, typeBucket.acquire());
+            }
+            if (globalBucket != null) {
+                waitNanos = Math.max(waitNanos, globalBucket.acquire());
+            }
+            // Messages of one session are decoded by one thread at a time
+            session.waitNanos = Math.max(session.waitNanos, waitNanos);
+            return true;
+        }
+        if (session.bucket != null && !session.bucket.tryAcquire()) {
+            return false;
+        }
+        if (typeBucket != null && !typeBucket.tryAcquire()) {
+            // Rejected message must not consume the limit of the session
+            release(session.bucket);
+            return false;
+        }
+        if (globalBucket != null && !globalBucket.tryAcquire()) {
+            release(session.bucket);
+            release(typeBucket);
+            return false;
+        }
+        return true;
+    }
+
+    private static void release(TokenBucket bucket) {
+        if (bucket != null) {
+            bucket.release();
+        }
+    }
+
+    /**
+     * @return nanos to pause reading from the session because its messages exceeded the limits, 0 if no pause is needed.
+     * Must be called on the I/O thread after the frame is decoded.
+     */
+    public long takePauseNanos(String sessionId) {
+        return pause ? takePauseNanos(sessions.get(sessionId)) : 0;
+    }
+
+    private static long takePauseNanos(SessionState session) {
+        if (session == null || session.waitNanos == 0) {
+            return 0;
+        }
+        var waitNanos = session.waitNanos;
+        session.waitNanos = 0;
+        return waitNanos;
+    }
+
+    /**
+     * Pause reading from the servlet session if its messages exceeded the limits. Must be called on the I/O thread after the frame is decoded.
+     */
+    public void pause(WebSocketSession webSocketSession) {
+        if (!pause) {
+            return;
+        }
+        var session = sessions.get(webSocketSession.getId());
+        var waitNanos = takePauseNanos(session);
+        if (waitNanos == 0) {
+            return;
+        }
+        log.debug("Session {} is over the rate limit, reading paused for {} ms", webSocketSession.getId(), TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        if (TOMCAT_PRESENT && webSocketSession instanceof NativeWebSocketSession nativeSession && TomcatReading.supports(nativeSession)) {
+            // Frames already read can be delivered after suspend, reading is resumed once
+            if (session.suspended.compareAndSet(false, true)) {
+                TomcatReading.suspend(nativeSession);
+                resumeScheduler.schedule(() -> {
+                    session.suspended.set(false);
+                    TomcatReading.resume(nativeSession);
+                }, waitNanos, TimeUnit.NANOSECONDS);
+            }
+            return;
+        }
+        LockSupport.parkNanos(waitNanos);
+    }
+
+    private SessionState sessionState(String sessionId) {
+        var session = sessions.get(sessionId);
+        return session != null ? session : sessions.computeIfAbsent(sessionId, id -> new SessionState(bucket(sessionLimit)));
+    }
+
+    /**
+     * Release the limit of the closed session.
+     */
+    public void sessionClosed(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    @Override
+    public void destroy() {
+        if (resumeScheduler != null) {
+            resumeScheduler.shutdownNow();
+        }
+    }
+
+    private static final class SessionState {
+
+        private final TokenBucket bucket; // null if unlimited
+        private final AtomicBoolean suspended = new AtomicBoolean();
+        private long waitNanos; // Accessed by the I/O thread of the session only
+
+        private SessionState(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+
+    /**
+     * Tomcat specific suspending of reading, in its own class, so other containers don't load Tomcat classes.
+     */
+    private static final class TomcatReading {
+
+        static boolean supports(NativeWebSocketSession webSocketSession) {
+            return webSocketSession.getNativeSession() instanceof org.apache.tomcat.websocket.WsSession;
+        }
+
+        static void suspend(NativeWebSocketSession webSocketSession) {
+            ((org.apache.tomcat.websocket.WsSession) webSocketSession.getNativeSession()).suspend();
+        }
+
+        static void resume(NativeWebSocketSession webSocketSession) {
+            try {
+                ((org.apache.tomcat.websocket.WsSession) webSocketSession.getNativeSession()).resume();
+            } catch (RuntimeException e) {
+                log.debug("Error while resume reading from session {}", webSocketSession.getId(), e);
+            }
+        }
+    }
+}
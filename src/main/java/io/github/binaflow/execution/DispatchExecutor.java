@@ -0,0 +1,84 @@
+package io.github.binaflow.execution;
+
+import io.github.binaflow.BinaFlowProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes decoded messages out of the WebSocket I/O thread.
+ * <p>Modes (binaflow.execution.mode):<br>
+ * - inline - message is handled on the I/O thread of the container.<br>
+ * - virtual-threads - every message is handled on a new virtual thread.<br>
+ * - bounded-pool - messages are handled on a fixed pool of platform threads with a bounded queue.
+ * <p>By default messages of one session are handled one by one in the order they were received,
+ * while messages of different sessions are handled in parallel.
+ * Messages of one session waiting for execution are bounded by binaflow.execution.session-queue-capacity.
+ * With binaflow.execution.concurrent-per-session=true messages of one session are handled in parallel too.
+ */
+public class DispatchExecutor implements DisposableBean {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(DispatchExecutor.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService executorService; // null in inline mode
+    private final boolean concurrentPerSession;
+    private final int sessionQueueCapacity;
+    private final Map<String, SerialExecutor> sessionExecutors = new ConcurrentHashMap<>(); // Key - session id
+
+    public DispatchExecutor(BinaFlowProperties.Execution properties) {
+        this.concurrentPerSession = properties.concurrentPerSession();
+        this.sessionQueueCapacity = properties.sessionQueueCapacity();
+        this.executorService = switch (properties.mode()) {
+            case INLINE -> null;
+            case VIRTUAL_THREADS -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("binaflow-", 0).factory());
+            case BOUNDED_POOL -> {
+                var poolSize = properties.poolSize() > 0 ? properties.poolSize() : Runtime.getRuntime().availableProcessors();
+                yield new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(properties.queueCapacity()),
+                        new CustomizableThreadFactory("binaflow-"),
+                        new ThreadPoolExecutor.AbortPolicy());
+            }
+        };
+        log.info("Messages are executed in mode '{}'. Concurrent per session: {}", properties.mode(), concurrentPerSession);
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if bounded pool queue or queue of the session is full
+     */
+    public void execute(String sessionId, Runnable task) {
+        if (executorService == null) {
+            task.run();
+        } else if (concurrentPerSession) {
+            executorService.execute(task);
+        } else {
+            sessionExecutors.computeIfAbsent(sessionId, id -> new SerialExecutor(executorService, sessionQueueCapacity)).execute(task);
+        }
+    }
+
+    /**
+     * Release resources of the closed session. Tasks already submitted for the session will be executed.
+     */
+    public void sessionClosed(String sessionId) {
+        sessionExecutors.remove(sessionId);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Messages are still being handled after {} seconds of shutdown.", SHUTDOWN_TIMEOUT_SECONDS);
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.binaflow.execution;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs submitted tasks one by one in submission order on the delegate executor.
+ * <p>Tasks are drained by a single delegate task. After {@link #MAX_TASKS_PER_DRAIN} tasks the drain is resubmitted
+ * to the delegate, so one busy session can't hold a pool thread forever.
+ * <p>Tasks waiting for execution are bounded by the capacity, a task over it is rejected,
+ * so one flooding session can't queue an unbounded number of messages.
+ * <p>A task that throws is logged and the next tasks are executed.
+ */
+public final class SerialExecutor implements Executor {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(SerialExecutor.class);
+
+    static final int MAX_TASKS_PER_DRAIN = 64;
+
+    private final Executor delegate;
+    private final int capacity;
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private boolean draining;
+
+    /**
+     * Executor with unbounded queue.
+     */
+    public SerialExecutor(Executor delegate) {
+        this(delegate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param capacity maximum number of tasks waiting for execution
+     */
+    public SerialExecutor(Executor delegate, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, but capacity=" + capacity);
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @throws RejectedExecutionException if the queue is full or the delegate rejected the task
+     */
+    @Override
+    public void execute(Runnable task) {
+        synchronized (this) {
+            if (tasks.size() >= capacity) {
+                throw new RejectedExecutionException("Queue of " + capacity + " tasks is full");
+            }
+            tasks.add(task);
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            delegate.execute(this::drain);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                tasks.removeLastOccurrence(task);
+                draining = false;
+            }
+            throw e;
+        }
+    }
+
+    private void drain() {
+        var executed = 0;
+        while (true) {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+                if (task == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // A failed task must not stop the queue, otherwise next tasks of the session are never executed
+                log.error("Task of serial executor failed", e);
+            }
+            if (++executed % MAX_TASKS_PER_DRAIN == 0 && resubmit()) {
+                return;
+            }
+        }
+    }
+
+    private boolean resubmit() {
+        try {
+            delegate.execute(this::drain);
+            return true;
+        } catch (RuntimeException e) {
+            // Delegate is saturated or shut down, continue on the current thread.
+            return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.binaflow.execution;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as GCRA (generic cell rate algorithm).
+ * <p>The whole state is one theoretical arrival time updated with CAS, so the bucket can be shared by all I/O threads
+ * without locks and without a refill timer. Up to {@code burst} messages are allowed at once,
+ * then one message per {@code 1s / rate}.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(int rate, int burst) {
+        if (rate <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive, but rate=" + rate + ", burst=" + burst);
+        }
+        this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        this.toleranceNanos = emissionIntervalNanos * burst;
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Take a token if it is available.
+     *
+     * @return false if the limit is exceeded, the token is not taken
+     */
+    boolean tryAcquire() {
+        while (true) {
+            var now = System.nanoTime();
+            var arrival = theoreticalArrivalNanos.get();
+            var next = Math.max(arrival - now, 0) + now + emissionIntervalNanos;
+            if (next - now > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give back a token taken by {@link #tryAcquire()}, e.g. when the message is rejected by another limit.
+     */
+    void release() {
+        theoreticalArrivalNanos.addAndGet(-emissionIntervalNanos);
+    }
+
+    /**
+     * Take a token even if the limit is exceeded.
+     *
+     * @return nanos the caller must wait to stay within the limit, 0 if the token was available
+     */
+    long acquire() {
+        while (true) {
+            var now = System.nanoTime();
+            var arrival = theoreticalArrivalNanos.get();
+            var next = Math.max(arrival - now, 0) + now + emissionIntervalNanos;
+            if (theoreticalArrivalNanos.compareAndSet(arrival, next)) {
+                return Math.max(next - now - toleranceNanos, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.binaflow.health;
+
+import io.github.binaflow.service.BinaFlowService;
+import io.github.binaflow.session.SessionRegistry;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports whether BinaFlow accepts connections.
+ * <p>OUT_OF_SERVICE until handlers are loaded and the routing table is built, then UP with the number of handled
+ * message types and open sessions. Include it into the readiness group
+ * (management.endpoint.health.group.readiness.include=readinessState,binaflow),
+ * so a load balancer sends traffic only to nodes with handlers ready.
+ */
+public class BinaFlowHealthIndicator implements HealthIndicator {
+
+    private final BinaFlowService binaFlowService;
+    private final SessionRegistry sessionRegistry;
+
+    public BinaFlowHealthIndicator(BinaFlowService binaFlowService, SessionRegistry sessionRegistry) {
+        this.binaFlowService = binaFlowService;
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Override
+    public Health health() {
+        if (!binaFlowService.isReady()) {
+            return Health.outOfService()
+                    .withDetail("reason", "Handlers are not loaded yet")
+                    .build();
+        }
+        return Health.up()
+                .withDetail("messageTypes", binaFlowService.getMessageTypes().size())
+                .withDetail("sessions", sessionRegistry.sessions().size())
+                .build();
+    }
+}
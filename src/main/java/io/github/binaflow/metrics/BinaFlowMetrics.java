@@ -0,0 +1,54 @@
+package io.github.binaflow.metrics;
+
+import io.github.binaflow.cache.ResponseCache;
+
+import java.util.Collection;
+
+/**
+ * Metrics of the dispatch path of {@link io.github.binaflow.service.BinaFlowService}.
+ * <p>{@link #NOOP} is used if Micrometer is not on the classpath or there is no MeterRegistry,
+ * so the dispatch path doesn't measure anything and doesn't allocate.
+ */
+public interface BinaFlowMetrics {
+
+    BinaFlowMetrics NOOP = new BinaFlowMetrics() {
+    };
+
+    /**
+     * @return true if metrics are recorded, so the caller should measure time
+     */
+    default boolean enabled() {
+        return false;
+    }
+
+    /**
+     * Register message types at startup. Only registered message types have their own meters, so tag cardinality is bounded.
+     */
+    default void registerMessageTypes(Collection<String> messageTypes) {
+    }
+
+    /**
+     * Register the response cache of the message type at startup, so its hits, misses and size are published.
+     */
+    default void registerCache(String messageType, ResponseCache cache) {
+    }
+
+    /**
+     * @return metrics of the registered message type or {@link MessageTypeMetrics#NOOP}
+     */
+    default MessageTypeMetrics messageType(String messageType) {
+        return MessageTypeMetrics.NOOP;
+    }
+
+    default void inbound(int bytes) {
+    }
+
+    default void outbound(int bytes) {
+    }
+
+    /**
+     * @param exceptionClass class of exception sent to the client as Error message
+     */
+    default void error(Class<? extends Exception> exceptionClass) {
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.binaflow.metrics;
+
+import io.github.binaflow.codec.Compressor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of compression (binaflow.compression.*): bytes saved versus time spent on deflate and inflate.
+ */
+public class CompressionMetrics implements MeterBinder {
+
+    private final Compressor compressor;
+
+    public CompressionMetrics(Compressor compressor) {
+        this.compressor = compressor;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry meterRegistry) {
+        FunctionCounter.builder("binaflow.compression.saved", compressor, Compressor::savedBytes)
+                .description("Bytes not sent thanks to compression")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("binaflow.compression.incompressible", compressor, Compressor::incompressibleCount)
+                .description("Messages sent uncompressed, because compressed message was not smaller")
+                .register(meterRegistry);
+        FunctionTimer.builder("binaflow.compression.time", compressor, Compressor::deflateCount, Compressor::deflateNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent on compression")
+                .tag("operation", "deflate")
+                .register(meterRegistry);
+        FunctionTimer.builder("binaflow.compression.time", compressor, Compressor::inflateCount, Compressor::inflateNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent on decompression")
+                .tag("operation", "inflate")
+                .register(meterRegistry);
+    }
+}
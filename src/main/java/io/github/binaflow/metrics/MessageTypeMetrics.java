@@ -0,0 +1,35 @@
+package io.github.binaflow.metrics;
+
+/**
+ * Timers of the dispatch stages for one message type.
+ */
+public interface MessageTypeMetrics {
+
+    MessageTypeMetrics NOOP = new MessageTypeMetrics() {
+    };
+
+    /**
+     * @return true if metrics are recorded, so the caller should measure time
+     */
+    default boolean enabled() {
+        return false;
+    }
+
+    /**
+     * @param nanos time of decoding the request
+     */
+    default void decoded(long nanos) {
+    }
+
+    /**
+     * @param nanos time of the handler method invocation
+     */
+    default void handled(long nanos) {
+    }
+
+    /**
+     * @param nanos time of encoding the response
+     */
+    default void encoded(long nanos) {
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.binaflow.metrics;
+
+import io.github.binaflow.cache.ResponseCache;
+import io.github.binaflow.session.SessionRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer implementation of {@link BinaFlowMetrics}.
+ * <p>Meters:<br>
+ * - binaflow.message.decode, binaflow.message.handle, binaflow.message.encode - timers with tag 'messageType'.<br>
+ * - binaflow.inbound.bytes, binaflow.outbound.bytes - size of received and sent messages.<br>
+ * - binaflow.errors - Error messages sent to clients, tag 'exception' is the simple class name of BinaFlowException.<br>
+ * - binaflow.sessions.active - number of open sessions.<br>
+ * - binaflow.cache.requests - requests of cached message types with tags 'messageType' and 'result' (hit or miss).<br>
+ * - binaflow.cache.size - number of cached responses with tag 'messageType'.
+ * <p>Timers are created only for message types registered at startup. Message types and caches are usually registered
+ * before the binder is bound to a MeterRegistry (Spring Boot binds meter binders after singletons are instantiated),
+ * so their meters are created in {@link #bindTo(MeterRegistry)}. Until then nothing is recorded.
+ */
+public class MicrometerBinaFlowMetrics implements BinaFlowMetrics, MeterBinder {
+
+    private final SessionRegistry sessionRegistry;
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final Map<String, ResponseCache> caches = new HashMap<>(); // Key - message type, guarded by this
+    private volatile MeterRegistry meterRegistry;
+    private volatile Counter inboundBytes;
+    private volatile Counter outboundBytes;
+    private volatile Map<String, BindableTimers> messageTypeMetrics = Map.of(); // Key - message type
+
+    public MicrometerBinaFlowMetrics(SessionRegistry sessionRegistry) {
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Override
+    public synchronized void bindTo(@NonNull MeterRegistry meterRegistry) {
+        this.inboundBytes = Counter.builder("binaflow.inbound.bytes")
+                .description("Size of messages received from clients")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.outboundBytes = Counter.builder("binaflow.outbound.bytes")
+                .description("Size of messages sent to clients")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("binaflow.sessions.active", sessionRegistry, registry -> registry.sessions().size())
+                .description("Number of open sessions")
+                .register(meterRegistry);
+        for (var timers : messageTypeMetrics.values()) {
+            timers.bind(meterRegistry);
+        }
+        caches.forEach((messageType, cache) -> registerCache(messageType, cache, meterRegistry));
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean enabled() {
+        return meterRegistry != null;
+    }
+
+    @Override
+    public synchronized void registerMessageTypes(Collection<String> messageTypes) {
+        var meterRegistry = this.meterRegistry;
+        var metrics = new HashMap<String, BindableTimers>();
+        for (var messageType : messageTypes) {
+            var timers = new BindableTimers(messageType);
+            if (meterRegistry != null) {
+                timers.bind(meterRegistry);
+            }
+            metrics.put(messageType, timers);
+        }
+        messageTypeMetrics = Map.copyOf(metrics);
+    }
+
+    @Override
+    public synchronized void registerCache(String messageType, ResponseCache cache) {
+        caches.put(messageType, cache);
+        var meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            registerCache(messageType, cache, meterRegistry);
+        }
+    }
+
+    private static void registerCache(String messageType, ResponseCache cache, MeterRegistry meterRegistry) {
+        FunctionCounter.builder("binaflow.cache.requests", cache, ResponseCache::hits)
+                .description("Requests of cached message types")
+                .tag("messageType", messageType)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("binaflow.cache.requests", cache, ResponseCache::misses)
+                .description("Requests of cached message types")
+                .tag("messageType", messageType)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("binaflow.cache.size", cache, ResponseCache::size)
+                .description("Number of cached responses")
+                .tag("messageType", messageType)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return metrics of the registered message type, recording once the binder is bound, or {@link MessageTypeMetrics#NOOP}
+     */
+    @Override
+    public MessageTypeMetrics messageType(String messageType) {
+        var metrics = messageTypeMetrics.get(messageType);
+        return metrics != null ? metrics : MessageTypeMetrics.NOOP;
+    }
+
+    @Override
+    public void inbound(int bytes) {
+        var counter = inboundBytes;
+        if (counter != null) {
+            counter.increment(bytes);
+        }
+    }
+
+    @Override
+    public void outbound(int bytes) {
+        var counter = outboundBytes;
+        if (counter != null) {
+            counter.increment(bytes);
+        }
+    }
+
+    @Override
+    public void error(Class<? extends Exception> exceptionClass) {
+        var meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        errorCounters.computeIfAbsent(exceptionClass, cls -> Counter.builder("binaflow.errors")
+                .description("Error messages sent to clients")
+                .tag("exception", cls.getSimpleName())
+                .register(meterRegistry)
+        ).increment();
+    }
+
+    private static Timer timer(String name, String description, String messageType, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("messageType", messageType)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Timers of the message type, kept by the routing table from startup and created when the binder is bound.
+     */
+    private static final class BindableTimers implements MessageTypeMetrics {
+
+        private final String messageType;
+        private volatile Timers timers; // null until bound
+
+        private BindableTimers(String messageType) {
+            this.messageType = messageType;
+        }
+
+        void bind(MeterRegistry meterRegistry) {
+            timers = new Timers(
+                    timer("binaflow.message.decode", "Time of decoding the request", messageType, meterRegistry),
+                    timer("binaflow.message.handle", "Time of the handler method invocation", messageType, meterRegistry),
+                    timer("binaflow.message.encode", "Time of encoding the response", messageType, meterRegistry));
+        }
+
+        @Override
+        public boolean enabled() {
+            return timers != null;
+        }
+
+        @Override
+        public void decoded(long nanos) {
+            var timers = this.timers;
+            if (timers != null) {
+                timers.decode.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void handled(long nanos) {
+            var timers = this.timers;
+            if (timers != null) {
+                timers.handle.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void encoded(long nanos) {
+            var timers = this.timers;
+            if (timers != null) {
+                timers.encode.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private record Timers(Timer decode, Timer handle, Timer encode) {
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.binaflow.metrics;
+
+import io.github.binaflow.session.OutboundSessionDecorator;
+import io.github.binaflow.session.SessionRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+
+/**
+ * Gauges of outbound buffer size aggregated over open sessions:<br>
+ * - binaflow.session.outbound.buffer.max - the biggest buffer, a growing one means a slow consumer.<br>
+ * - binaflow.session.outbound.buffer.total - sum of all buffers, memory held by messages waiting to be sent.
+ * <p>Sessions are not tagged, so the number of time series doesn't grow with the number of sessions.
+ * Gauges iterate over open sessions when they are read.
+ */
+public class OutboundBufferMetrics implements MeterBinder {
+
+    private final SessionRegistry sessionRegistry;
+
+    public OutboundBufferMetrics(SessionRegistry sessionRegistry) {
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry meterRegistry) {
+        Gauge.builder("binaflow.session.outbound.buffer.max", sessionRegistry, OutboundBufferMetrics::maxBufferSize)
+                .description("Size of the biggest outbound buffer of open sessions")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("binaflow.session.outbound.buffer.total", sessionRegistry, OutboundBufferMetrics::totalBufferSize)
+                .description("Size of messages waiting to be sent to all open sessions")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static double maxBufferSize(SessionRegistry sessionRegistry) {
+        return sessionRegistry.sessions().stream().mapToLong(OutboundSessionDecorator::getBufferSize).max().orElse(0);
+    }
+
+    private static double totalBufferSize(SessionRegistry sessionRegistry) {
+        return sessionRegistry.sessions().stream().mapToLong(OutboundSessionDecorator::getBufferSize).sum();
+    }
+}
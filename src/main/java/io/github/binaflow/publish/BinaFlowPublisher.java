@@ -0,0 +1,287 @@
+package io.github.binaflow.publish;
+
+import com.google.protobuf.Message;
+import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.codec.Compressor;
+import io.github.binaflow.codec.ResponseTypes;
+import io.github.binaflow.execution.SerialExecutor;
+import io.github.binaflow.metrics.BinaFlowMetrics;
+import io.github.binaflow.session.OutboundSessionDecorator;
+import io.github.binaflow.session.SessionRegistry;
+import io.github.binaflow.session.SharedMessage;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fan-out of messages to open sessions subscribed to topics, or to all open sessions.
+ * <p>A published message is serialized (and compressed if it is big enough) once into a read-only buffer,
+ * shared by all sessions it is sent to. {@link #publish(String, Message)} doesn't wait for sockets:
+ * messages are queued per session and sent by virtual threads, so sessions are written in parallel,
+ * while messages of one session keep the order they were published in.
+ * <p>A subscriber whose queued messages and outbound buffer would exceed binaflow.outbound.buffer-size-limit is slow,
+ * binaflow.publisher.slow-subscriber is applied:<br>
+ * - drop - the message is not sent to the session.<br>
+ * - close - the session is closed with status {@link CloseStatus#SESSION_NOT_RELIABLE}.
+ * <p>Subscriptions of a session are removed when it is closed ({@link SessionRegistry.Listener}).
+ * Messages are sent with the string messageType, like messages of compact sessions that are not responses.
+ */
+public class BinaFlowPublisher implements SessionRegistry.Listener, DisposableBean {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(BinaFlowPublisher.class);
+
+    private final SessionRegistry sessionRegistry;
+    private final BinaFlowMetrics metrics;
+    private final Compressor compressor; // null if compression is disabled
+    private final boolean closeSlowSubscribers;
+    private final long bufferSizeLimit;
+    private final ResponseTypes responseTypes = new ResponseTypes();
+    private final ExecutorService executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("binaflow-publisher-", 0).factory());
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>(); // Key - session id
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>(); // Key - topic
+
+    public BinaFlowPublisher(BinaFlowProperties properties, SessionRegistry sessionRegistry, BinaFlowMetrics metrics, Compressor compressor) {
+        this.sessionRegistry = sessionRegistry;
+        this.metrics = metrics;
+        this.compressor = compressor;
+        this.closeSlowSubscribers = properties.publisher().slowSubscriber() == BinaFlowProperties.Publisher.SlowSubscriberPolicy.CLOSE;
+        this.bufferSizeLimit = properties.outbound().bufferSizeLimit().toBytes();
+        sessionRegistry.addListener(this);
+    }
+
+    /**
+     * Subscribe the open session to the topic.
+     *
+     * @return false if the session is already closed
+     */
+    public boolean subscribe(String topic, WebSocketSession webSocketSession) {
+        var subscriber = subscriber(webSocketSession.getId());
+        if (subscriber == null) {
+            return false;
+        }
+        subscriber.topics.add(topic);
+        topics.compute(topic, (key, topicSubscribers) -> {
+            var result = topicSubscribers != null ? topicSubscribers : ConcurrentHashMap.<Subscriber>newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        if (sessionRegistry.get(subscriber.session.getId()) == null) {
+            // Session was closed while subscribing
+            remove(subscriber);
+            return false;
+        }
+        return true;
+    }
+
+    public void unsubscribe(String topic, WebSocketSession webSocketSession) {
+        var subscriber = subscribers.get(webSocketSession.getId());
+        if (subscriber != null && subscriber.topics.remove(topic)) {
+            removeFromTopic(topic, subscriber);
+        }
+    }
+
+    /**
+     * @return number of sessions subscribed to the topic
+     */
+    public int subscriberCount(String topic) {
+        var topicSubscribers = topics.get(topic);
+        return topicSubscribers == null ? 0 : topicSubscribers.size();
+    }
+
+    /**
+     * Send the message to all sessions subscribed to the topic.
+     *
+     * @return number of sessions the message is queued for, slow subscribers are not counted
+     */
+    public int publish(String topic, Message message) {
+        var topicSubscribers = topics.get(topic);
+        if (topicSubscribers == null || topicSubscribers.isEmpty()) {
+            return 0;
+        }
+        return fanOut(topicSubscribers, encode(message));
+    }
+
+    /**
+     * Send the message to all open sessions.
+     *
+     * @return number of sessions the message is queued for, slow sessions are not counted
+     */
+    public int broadcast(Message message) {
+        var sessions = sessionRegistry.sessions();
+        if (sessions.isEmpty()) {
+            return 0;
+        }
+        var sharedMessage = encode(message);
+        var count = 0;
+        for (var session : sessions) {
+            var subscriber = subscriber(session.getId());
+            if (subscriber != null && offer(subscriber, sharedMessage)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private SharedMessage encode(Message message) {
+        var responseType = responseTypes.get(message.getClass());
+        if (responseType.messageTypeField() != null && !responseType.messageType().equals(responseType.messageTypeOf(message))) {
+            // messageType is set once for all sessions, the same way as in responses
+            message = message.toBuilder().setField(responseType.messageTypeField(), responseType.messageType()).build();
+        }
+        return new SharedMessage(message, compressor);
+    }
+
+    private int fanOut(Collection<Subscriber> topicSubscribers, SharedMessage message) {
+        var count = 0;
+        for (var subscriber : topicSubscribers) {
+            if (offer(subscriber, message)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return false if the subscriber is slow, the message is not queued
+     */
+    private boolean offer(Subscriber subscriber, SharedMessage message) {
+        var length = message.length();
+        var queuedBytes = subscriber.queuedBytes.get() + subscriber.session.getBufferSize();
+        // Message bigger than the limit is allowed when nothing is queued
+        if (queuedBytes > 0 && queuedBytes + length > bufferSizeLimit) {
+            slow(subscriber, queuedBytes);
+            return false;
+        }
+        subscriber.queuedBytes.addAndGet(length);
+        try {
+            subscriber.executor.execute(() -> send(subscriber, message));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // Publisher is shut down
+            subscriber.queuedBytes.addAndGet(-length);
+            return false;
+        }
+    }
+
+    private void send(Subscriber subscriber, SharedMessage message) {
+        var session = subscriber.session;
+        try {
+            if (session.isOpen()) {
+                metrics.outbound(message.length());
+                session.sendShared(message);
+            }
+        } catch (SessionLimitExceededException e) {
+            log.warn("Closing session {}. {}", session.getId(), e.getMessage());
+            close(subscriber, e.getStatus());
+        } catch (IOException e) {
+            log.debug("Error while publish to session {}", session.getId(), e);
+        } finally {
+            subscriber.queuedBytes.addAndGet(-message.length());
+        }
+    }
+
+    private void slow(Subscriber subscriber, long queuedBytes) {
+        if (!closeSlowSubscribers) {
+            log.debug("Message is not published to slow session {}. Queued {} bytes", subscriber.session.getId(), queuedBytes);
+            return;
+        }
+        if (subscriber.closing.compareAndSet(false, true)) {
+            log.warn("Closing slow session {}. Queued {} bytes of published messages", subscriber.session.getId(), queuedBytes);
+            // Closing can block on the socket, the publisher must not wait for it
+            try {
+                executorService.execute(() -> close(subscriber, CloseStatus.SESSION_NOT_RELIABLE));
+            } catch (RejectedExecutionException e) {
+                log.debug("Slow session {} is not closed, publisher is shut down", subscriber.session.getId());
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber, CloseStatus status) {
+        try {
+            subscriber.session.close(status);
+        } catch (IOException e) {
+            log.debug("Error while close session {}", subscriber.session.getId(), e);
+        }
+    }
+
+    /**
+     * @return subscriber of the open session or null if the session is not registered (already closed)
+     */
+    private Subscriber subscriber(String sessionId) {
+        var subscriber = subscribers.get(sessionId);
+        if (subscriber != null) {
+            return subscriber;
+        }
+        var session = sessionRegistry.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        subscriber = subscribers.computeIfAbsent(sessionId, id -> new Subscriber(session, new SerialExecutor(executorService)));
+        if (sessionRegistry.get(sessionId) == null) {
+            // Session was closed while the subscriber was created
+            remove(subscriber);
+            return null;
+        }
+        return subscriber;
+    }
+
+    @Override
+    public void onRegistered(OutboundSessionDecorator session) {
+    }
+
+    @Override
+    public void onUnregistered(OutboundSessionDecorator session) {
+        var subscriber = subscribers.get(session.getId());
+        if (subscriber != null) {
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.remove(subscriber.session.getId(), subscriber);
+        for (var topic : subscriber.topics) {
+            removeFromTopic(topic, subscriber);
+        }
+    }
+
+    private void removeFromTopic(String topic, Subscriber subscriber) {
+        topics.computeIfPresent(topic, (key, topicSubscribers) -> {
+            topicSubscribers.remove(subscriber);
+            return topicSubscribers.isEmpty() ? null : topicSubscribers;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Open session with its queue of published messages.
+     */
+    private static final class Subscriber {
+
+        private final OutboundSessionDecorator session;
+        private final SerialExecutor executor;
+        private final AtomicLong queuedBytes = new AtomicLong(); // Bytes of messages queued, but not yet sent
+        private final AtomicBoolean closing = new AtomicBoolean();
+        private final Set<String> topics = ConcurrentHashMap.newKeySet();
+
+        private Subscriber(OutboundSessionDecorator session, SerialExecutor executor) {
+            this.session = session;
+            this.executor = executor;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.binaflow.reactive;
+
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.server.WebSocketService;
+import org.springframework.web.reactive.socket.server.support.HandshakeWebSocketService;
+import org.springframework.web.reactive.socket.server.upgrade.ReactorNettyRequestUpgradeStrategy;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * Upgrades HTTP requests to WebSocket sessions handled by {@link BinaFlowWebSocketHandler}.
+ * <p>The default {@link HandshakeWebSocketService} selects the upgrade strategy by the classpath, and Tomcat wins,
+ * because the servlet transport brings it. The strategy is selected by the server of the request instead,
+ * so Reactor Netty is supported without excluding Tomcat.
+ */
+public class BinaFlowUpgradeHandler implements WebHandler {
+
+    private static final boolean REACTOR_NETTY_PRESENT = ClassUtils.isPresent("reactor.netty.http.server.HttpServerRequest",
+            BinaFlowUpgradeHandler.class.getClassLoader());
+
+    private final WebSocketHandler webSocketHandler;
+    private final WebSocketService webSocketService = new HandshakeWebSocketService();
+    private final WebSocketService reactorNettyWebSocketService; // null if Reactor Netty is not on the classpath
+
+    public BinaFlowUpgradeHandler(WebSocketHandler webSocketHandler) {
+        this.webSocketHandler = webSocketHandler;
+        this.reactorNettyWebSocketService = REACTOR_NETTY_PRESENT ? new HandshakeWebSocketService(new ReactorNettyRequestUpgradeStrategy()) : null;
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> handle(@NonNull ServerWebExchange exchange) {
+        var service = reactorNettyWebSocketService != null && ReactorNetty.isRequest(ServerHttpRequestDecorator.getNativeRequest(exchange.getRequest()))
+                ? reactorNettyWebSocketService
+                : webSocketService;
+        return service.handleRequest(exchange, webSocketHandler);
+    }
+
+    /**
+     * Reactor Netty specific code, in its own class, so Reactor Netty is an optional dependency.
+     */
+    private static final class ReactorNetty {
+
+        static boolean isRequest(Object nativeRequest) {
+            return nativeRequest instanceof reactor.netty.http.server.HttpServerRequest;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.binaflow.reactive;
+
+import io.github.binaflow.codec.MessageEncoder;
+import io.github.binaflow.execution.AdmissionControl;
+import io.github.binaflow.service.BinaFlowService;
+import io.github.binaflow.session.OutboundSessionDecorator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * WebFlux transport of BinaFlow (e.g. Reactor Netty), registered on binaflow.http-path in reactive web applications.
+ * <p>Frames are passed to {@link BinaFlowService} the same way as from the servlet transport: payload {@link DataBuffer}
+ * is decoded on the event loop without copying into {@code byte[]}, then the message is handled by the executor.
+ * Frames are requested one by one, and in pause mode of rate limits the next frame is requested only after the pause
+ * of the session, so the socket is not read faster than messages are admitted.
+ * <p>Sessions are given to the core and to handlers as {@link org.springframework.web.socket.WebSocketSession}.
+ */
+public class BinaFlowWebSocketHandler implements WebSocketHandler {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(BinaFlowWebSocketHandler.class);
+
+    private final BinaFlowService binaFlowService;
+    private final AdmissionControl admissionControl; // null if rate limits are disabled
+    private final boolean pooledPayloads;
+
+    public BinaFlowWebSocketHandler(BinaFlowService binaFlowService, AdmissionControl admissionControl, MessageEncoder messageEncoder) {
+        this.binaFlowService = binaFlowService;
+        this.admissionControl = admissionControl;
+        this.pooledPayloads = messageEncoder.isPooled();
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> handle(@NonNull WebSocketSession session) {
+        var adapter = new ReactiveSessionAdapter(session, pooledPayloads);
+        OutboundSessionDecorator webSocketSession;
+        try {
+            webSocketSession = binaFlowService.open(adapter);
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
+        if (webSocketSession == null) {
+            return Mono.empty();
+        }
+        // Payload buffer is released by the server after onNext, so message is decoded on the event loop before the pause
+        var input = session.receive()
+                .map(message -> receive(session, webSocketSession, message))
+                .concatMap(pauseNanos -> pauseNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(pauseNanos)), 1)
+                .doFinally(signal -> {
+                    binaFlowService.close(adapter);
+                    adapter.complete();
+                })
+                .then();
+        return Mono.zip(input, session.send(adapter.outbound())).then();
+    }
+
+    /**
+     * @return nanos to pause reading from the session
+     */
+    private long receive(WebSocketSession session, OutboundSessionDecorator webSocketSession, WebSocketMessage message) {
+        if (message.getType() == WebSocketMessage.Type.TEXT) {
+            log.debug("Closing session {}, text messages are not supported", session.getId());
+            session.close(CloseStatus.NOT_ACCEPTABLE).subscribe();
+            return 0;
+        }
+        if (message.getType() != WebSocketMessage.Type.BINARY) {
+            return 0;
+        }
+        binaFlowService.receive(webSocketSession, byteBuffer(message.getPayload()));
+        return admissionControl == null ? 0 : admissionControl.takePauseNanos(session.getId());
+    }
+
+    /**
+     * @return the buffer of the payload if it is contiguous, otherwise its copy
+     */
+    private static ByteBuffer byteBuffer(DataBuffer payload) {
+        if (payload.readableByteCount() == 0) {
+            return ByteBuffer.allocate(0);
+        }
+        try (var byteBuffers = payload.readableByteBuffers()) {
+            var first = byteBuffers.next();
+            if (!byteBuffers.hasNext()) {
+                return first;
+            }
+            var copy = ByteBuffer.allocate(payload.readableByteCount()).put(first);
+            byteBuffers.forEachRemaining(copy::put);
+            return copy.flip();
+        }
+    }
+}
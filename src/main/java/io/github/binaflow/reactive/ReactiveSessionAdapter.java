@@ -0,0 +1,174 @@
+package io.github.binaflow.reactive;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reactive WebSocket session seen as {@link WebSocketSession}, so the transport neutral core
+ * (outbound buffer, batching, compression, handler parameters) works with it unchanged.
+ * <p>Sent messages are emitted to {@link #outbound()}, which is sent once to the reactive session.
+ * {@link #sendMessage(WebSocketMessage)} waits while the transport doesn't take queued messages
+ * (the socket is not writable), so the bounded outbound buffer of the session applies backpressure of the socket
+ * to the handlers. Non-blocking threads (e.g. event loop in inline execution mode) never wait.
+ * <p>Pooled payloads are reused after they are sent, so they are copied, because the write is asynchronous.
+ */
+class ReactiveSessionAdapter implements WebSocketSession {
+
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MAX_QUEUED_MESSAGES = 64;
+    private static final Duration EMIT_RETRY_DURATION = Duration.ofSeconds(1);
+
+    private final org.springframework.web.reactive.socket.WebSocketSession session;
+    private final boolean pooledPayloads;
+    private final Sinks.Many<org.springframework.web.reactive.socket.WebSocketMessage> outbound = Sinks.many().unicast().onBackpressureBuffer();
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+
+    ReactiveSessionAdapter(org.springframework.web.reactive.socket.WebSocketSession session, boolean pooledPayloads) {
+        this.session = session;
+        this.pooledPayloads = pooledPayloads;
+    }
+
+    /**
+     * @return messages to send to the reactive session, completed by {@link #complete()}
+     */
+    Flux<org.springframework.web.reactive.socket.WebSocketMessage> outbound() {
+        return outbound.asFlux().doOnNext(message -> queuedMessages.decrementAndGet());
+    }
+
+    void complete() {
+        outbound.emitComplete(Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION));
+    }
+
+    @Override
+    @NonNull
+    public String getId() {
+        return session.getId();
+    }
+
+    @Override
+    public URI getUri() {
+        return session.getHandshakeInfo().getUri();
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getHandshakeHeaders() {
+        return session.getHandshakeInfo().getHeaders();
+    }
+
+    @Override
+    @NonNull
+    public Map<String, Object> getAttributes() {
+        return session.getAttributes();
+    }
+
+    /**
+     * @return null, principal of reactive handshake is asynchronous
+     */
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return session.getHandshakeInfo().getRemoteAddress();
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return session.getHandshakeInfo().getSubProtocol();
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    @NonNull
+    public List<WebSocketExtension> getExtensions() {
+        return List.of();
+    }
+
+    @Override
+    public void sendMessage(@NonNull WebSocketMessage<?> message) throws IOException {
+        if (!session.isOpen()) {
+            throw new IOException("Session " + getId() + " is closed");
+        }
+        var reactiveMessage = switch (message) {
+            case BinaryMessage binaryMessage -> {
+                var payload = pooledPayloads ? copy(binaryMessage.getPayload()) : binaryMessage.getPayload();
+                yield session.binaryMessage(factory -> factory.wrap(payload));
+            }
+            case TextMessage textMessage -> session.textMessage(textMessage.getPayload());
+            default -> throw new IllegalArgumentException("Unsupported message type " + message.getClass());
+        };
+        queuedMessages.incrementAndGet();
+        outbound.emitNext(reactiveMessage, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION));
+        if (Schedulers.isInNonBlockingThread()) {
+            return;
+        }
+        while (queuedMessages.get() > MAX_QUEUED_MESSAGES && session.isOpen()) {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    private static ByteBuffer copy(ByteBuffer payload) {
+        return ByteBuffer.allocate(payload.remaining()).put(payload.duplicate()).flip();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return session.isOpen();
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(@NonNull CloseStatus status) {
+        session.close(new org.springframework.web.reactive.socket.CloseStatus(status.getCode(), status.getReason())).subscribe();
+    }
+}
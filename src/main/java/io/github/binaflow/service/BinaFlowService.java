@@ -1,297 +1,936 @@
 package io.github.binaflow.service;
 
-import io.github.binaflow.dto.BaseMessage;
-import io.github.binaflow.dto.Ping;
+import io.github.binaflow.codec.BatchDecoder;
+import io.github.binaflow.codec.Compressor;
+import io.github.binaflow.codec.Envelope;
+import io.github.binaflow.codec.EnvelopeDecoder;
+import io.github.binaflow.codec.ErrorFrame;
+import io.github.binaflow.codec.ResponseType;
+import io.github.binaflow.codec.ResponseTypes;
+import io.github.binaflow.dto.StreamEnd;
+import com.google.protobuf.Descriptors;
 import com.google.protobuf.GeneratedMessage;
+import com.google.protobuf.Internal;
 import com.google.protobuf.Message;
+import io.github.binaflow.annotation.CachedResponse;
 import io.github.binaflow.annotation.Controller;
 import io.github.binaflow.annotation.MessageMapping;
 import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.cache.ResponseCache;
 import io.github.binaflow.exception.EmptyMessageTypeException;
+import io.github.binaflow.exception.MalformedMessageException;
 import io.github.binaflow.exception.MessageTypeNotFoundException;
 import io.github.binaflow.exception.BinaFlowException;
+import io.github.binaflow.exception.ServerOverloadedException;
+import io.github.binaflow.exception.TooManyRequestsException;
+import io.github.binaflow.execution.AdmissionControl;
+import io.github.binaflow.execution.DispatchExecutor;
+import io.github.binaflow.metrics.BinaFlowMetrics;
+import io.github.binaflow.metrics.MessageTypeMetrics;
+import io.github.binaflow.session.OutboundSessionDecorator;
+import io.github.binaflow.session.SessionRegistry;
+import io.github.binaflow.util.LogRateLimiter;
 import io.github.binaflow.util.StackTraceUtils;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.event.EventListener;
 import org.springframework.lang.NonNull;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.adapter.standard.StandardWebSocketSession;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
-import java.nio.file.InvalidPathException;
-import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The core of BinaFlow.
  * <p>Responsible for:<br>
- * - Loading message types from protobuf schemas.<br>
- * - Loading controllers and their methods.<br>
- * - Handling incoming messages.
+ * - Loading controllers and their methods. Message types are taken from protobuf descriptors of handler parameters.<br>
+ * - Optional warmup of handlers with sample messages (binaflow.warmup.enabled=true).<br>
+ * - Building immutable {@link RoutingTable} before the endpoint accepts connections. Sessions opened earlier are closed
+ * with status {@link CloseStatus#SERVICE_RESTARTED}, so clients reconnect.<br>
+ * - Handling incoming messages. Messages are decoded on the I/O thread and handled by {@link DispatchExecutor}.
+ * <p>The service is the servlet WebSocket handler. Other transports (e.g. {@link io.github.binaflow.reactive.BinaFlowWebSocketHandler})
+ * pass sessions and frames to {@link #open(WebSocketSession)}, {@link #receive(OutboundSessionDecorator, ByteBuffer)} and {@link #close(WebSocketSession)}.
+ * <p>Common client errors (empty or unknown message type, malformed message, overload) are answered with prepared
+ * {@link ErrorFrame}s and logged at most once per second, so a flood of bad messages is cheap.
+ * Unhandled exceptions of handlers are logged the same way and answered with a prepared 500 {@code Error},
+ * unless details are enabled with binaflow.unhandled-exceptions.fill-* properties.
+ * <p>If rate limits are enabled (binaflow.rate-limit.enabled), messages are admitted by {@link AdmissionControl}
+ * after routing and before parsing, so messages over the limit are rejected with {@code Error} 429 or slow down the session.
+ * <p>In compact mode (binaflow.compact.enabled=true) message types also get numeric ids ({@link io.github.binaflow.codec.MessageTypeIds}).
+ * The id table is sent to the client after connection, and messages with messageType sent as id are routed by array index.
+ * Responses are sent with messageType in the same form as the request.
+ * <p>Messages of a {@code Batch} frame are decoded on the I/O thread and handled one by one in one task.
+ * Every message of the batch gets its own response or Error.
+ * <p>If compression is enabled, {@code Compressed} frames are decompressed on the I/O thread and decoded as usual.
+ * <p>Handler can return {@link java.util.concurrent.Flow.Publisher}, Reactive Streams {@code Publisher} (e.g. {@code Flux}),
+ * {@link java.util.stream.Stream} or {@link java.util.Iterator} of messages ({@link ResponseStream}). Messages are sent with messageId of the request, followed by {@code StreamEnd}.
+ * Next message is sent only when it fits into the outbound buffer of the session. Reactor {@code Mono} is sent as a single response.
+ * <p>Responses of handlers annotated with {@link CachedResponse} are cached by the request ({@link ResponseCache}).
+ * On a hit the request is not parsed and the handler is not invoked.
  */
-public class BinaFlowService extends BinaryWebSocketHandler {
+public class BinaFlowService extends BinaryWebSocketHandler implements SmartInitializingSingleton {
 
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(BinaFlowService.class);
+    private static final byte[] NO_PREFIX = new byte[0];
+    private static final Duration BAD_MESSAGE_LOG_INTERVAL = Duration.ofSeconds(1);
 
     private final BinaFlowProperties properties;
     private final ApplicationContext applicationContext;
-    private final Pattern messageTypePattern = Pattern.compile(".*message\\s+([a-zA-Z][a-zA-Z\\d]*)\\s*\\{.*");
-    private final Map<String, MessageTypeMapping> messageTypeMappings = new HashMap<>(); // Key - simple class name
+    private final DispatchExecutor dispatchExecutor;
+    private final SessionRegistry sessionRegistry;
+    private final BinaFlowMetrics metrics;
+    private final Compressor compressor; // null if compression is disabled
+    private final AdmissionControl admissionControl; // null if rate limits are disabled
+    private final ResponseTypes responseTypes = new ResponseTypes();
+    private final ErrorFrame emptyMessageTypeError = new ErrorFrame(new EmptyMessageTypeException());
+    private final ErrorFrame messageTypeNotFoundError = new ErrorFrame(new MessageTypeNotFoundException());
+    private final ErrorFrame malformedMessageError = new ErrorFrame(new MalformedMessageException());
+    private final ErrorFrame serverOverloadedError = new ErrorFrame(new ServerOverloadedException(null));
+    private final ErrorFrame tooManyRequestsError = new ErrorFrame(new TooManyRequestsException());
+    private final ErrorFrame unhandledExceptionError; // null if binaflow.unhandled-exceptions.fill-* details are enabled
+    private final LogRateLimiter emptyMessageTypeLog = new LogRateLimiter(BAD_MESSAGE_LOG_INTERVAL);
+    private final LogRateLimiter messageTypeNotFoundLog = new LogRateLimiter(BAD_MESSAGE_LOG_INTERVAL);
+    private final LogRateLimiter malformedMessageLog = new LogRateLimiter(BAD_MESSAGE_LOG_INTERVAL);
+    private final LogRateLimiter rejectedMessageLog = new LogRateLimiter(BAD_MESSAGE_LOG_INTERVAL);
+    private final LogRateLimiter rateLimitedMessageLog = new LogRateLimiter(BAD_MESSAGE_LOG_INTERVAL);
+    private final LogRateLimiter unhandledExceptionLog = new LogRateLimiter(BAD_MESSAGE_LOG_INTERVAL);
+    private final Set<String> schemaMessageTypes = new TreeSet<>(); // All message types of .proto files of handlers
+    private final Set<String> schemaFiles = new HashSet<>(); // Full names of loaded .proto files
+    private volatile RoutingTable routingTable; // null until handlers are loaded
+    private volatile boolean ready; // true when handlers are loaded and warmed up
+    private volatile boolean warmingUp;
+    private final Set<String> warmupFailures = ConcurrentHashMap.newKeySet(); // Message types failed during warmup
 
-    public BinaFlowService(BinaFlowProperties properties, ApplicationContext applicationContext) {
+    public BinaFlowService(BinaFlowProperties properties,
+                           ApplicationContext applicationContext,
+                           DispatchExecutor dispatchExecutor,
+                           SessionRegistry sessionRegistry,
+                           BinaFlowMetrics metrics,
+                           Compressor compressor,
+                           AdmissionControl admissionControl) {
         this.properties = properties;
         this.applicationContext = applicationContext;
+        this.dispatchExecutor = dispatchExecutor;
+        this.sessionRegistry = sessionRegistry;
+        this.metrics = metrics;
+        this.compressor = compressor;
+        this.admissionControl = admissionControl;
+        var unhandledExceptions = properties.unhandledExceptions();
+        this.unhandledExceptionError = unhandledExceptions.fillMessage() || unhandledExceptions.fillExceptionClass() || unhandledExceptions.fillStackTrace()
+                ? null
+                : new ErrorFrame(unhandledException(null, null));
     }
 
     @Override
-    protected void handleBinaryMessage(@NonNull WebSocketSession webSocketSession, @NonNull BinaryMessage message) {
+    public void afterConnectionEstablished(@NonNull WebSocketSession webSocketSession) throws IOException {
+        open(webSocketSession);
+    }
+
+    /**
+     * Register the session of any transport and send the message type table to it in compact mode.
+     *
+     * @return decorated session, or null if the session is refused (closed) because handlers are not loaded yet
+     */
+    public OutboundSessionDecorator open(WebSocketSession webSocketSession) throws IOException {
+        if (!ready) {
+            log.warn("Session {} refused, handlers are not loaded yet", webSocketSession.getId());
+            webSocketSession.close(CloseStatus.SERVICE_RESTARTED);
+            return null;
+        }
+        // Read after ready: the final routing table is written before ready, the warmup one has no meters
+        var routingTable = this.routingTable;
+        var session = sessionRegistry.register(webSocketSession);
+        if (routingTable.messageTypeTable() != null) {
+            try {
+                session.sendMessage(routingTable.messageTypeTable());
+            } catch (IOException e) {
+                log.warn("Error while send message type table to session {}", session.getId(), e);
+            }
+        }
+        return session;
+    }
+
+    @Override
+    protected void handleBinaryMessage(@NonNull WebSocketSession nativeWebSocketSession, @NonNull BinaryMessage message) {
+        var webSocketSession = sessionRegistry.get(nativeWebSocketSession.getId());
+        if (webSocketSession == null) {
+            log.debug("Message received for closed session {}", nativeWebSocketSession.getId());
+            return;
+        }
+        receive(webSocketSession, message.getPayload());
+        if (admissionControl != null) {
+            admissionControl.pause(nativeWebSocketSession);
+        }
+    }
+
+    /**
+     * Decode the frame of any transport on the calling (I/O) thread and pass it to {@link DispatchExecutor}.
+     * The payload is not used after return, so the transport can reuse its buffer.
+     */
+    public void receive(OutboundSessionDecorator webSocketSession, ByteBuffer payload) {
+        metrics.inbound(payload.remaining());
+        var task = decode(webSocketSession, payload, true, true);
+        try {
+            dispatchExecutor.execute(webSocketSession.getId(), task);
+        } catch (RejectedExecutionException e) {
+            var suppressed = rejectedMessageLog.tryAcquire();
+            if (suppressed >= 0) {
+                log.warn("Message rejected, server is overloaded. Session {}. Suppressed records: {}", webSocketSession.getId(), suppressed);
+            }
+            sendError(serverOverloadedError, null, webSocketSession);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession webSocketSession, @NonNull CloseStatus status) {
+        close(webSocketSession);
+    }
+
+    /**
+     * Release resources of the closed session of any transport.
+     */
+    public void close(WebSocketSession webSocketSession) {
+        sessionRegistry.unregister(webSocketSession);
+        dispatchExecutor.sessionClosed(webSocketSession.getId());
+        if (admissionControl != null) {
+            admissionControl.sessionClosed(webSocketSession.getId());
+        }
+    }
+
+    /**
+     * Decode message and return the task that invokes the handler, or the task that responds with error if message can't be decoded.
+     *
+     * @param batchAllowed      false for messages of a batch, batches can't be nested
+     * @param compressedAllowed false for decompressed messages, compressed messages can't be nested
+     */
+    private Runnable decode(OutboundSessionDecorator webSocketSession, ByteBuffer payload, boolean batchAllowed, boolean compressedAllowed) {
         String messageId = null;
         String messageType = "Undefined";
+        var start = metrics.enabled() ? System.nanoTime() : 0L;
+        var routingTable = this.routingTable;
         try {
-            if (!(webSocketSession instanceof StandardWebSocketSession)) {
-                log.warn("Only StandardWebSocketSession supported, but used {}", webSocketSession.getClass());
-                return;
+            var envelope = EnvelopeDecoder.decode(payload);
+            messageId = envelope.messageId();
+            if (compressedAllowed && compressor != null && isCompressed(envelope)) {
+                messageType = "Compressed";
+                return decode(webSocketSession, compressor.decompress(payload), batchAllowed, false);
             }
-            var baseMessage = BaseMessage.parseFrom(message.getPayload());
-            messageId = baseMessage.getMessageId();
-            if (!StringUtils.hasText(baseMessage.getMessageType())) {
-                log.warn("Message type is empty. MessageId {}", messageId);
-                var emptyMessageTypeException = new EmptyMessageTypeException();
-                emptyMessageTypeException.getProblemDetail().setStatus(400);
-                emptyMessageTypeException.getProblemDetail().setDetail("Client sent empty message type field");
-                throw emptyMessageTypeException;
+            if (batchAllowed && isBatch(envelope)) {
+                messageType = "Batch";
+                return decodeBatch(webSocketSession, payload, compressedAllowed);
+            }
+            MessageTypeMapping messageTypeMapping;
+            if (envelope.compact()) {
+                messageTypeMapping = routingTable.get(envelope.messageTypeId());
+                if (messageTypeMapping == null) {
+                    return reject(messageTypeNotFoundError, messageTypeNotFoundLog, "Message type id '{}' not found. MessageId {}. Suppressed records: {}",
+                            envelope.messageTypeId(), messageId, webSocketSession);
+                }
+                messageType = routingTable.messageTypeIds().messageType(envelope.messageTypeId());
+            } else {
+                if (!StringUtils.hasText(envelope.messageType())) {
+                    return reject(emptyMessageTypeError, emptyMessageTypeLog, "Message type is empty. MessageId {}. Suppressed records: {}",
+                            null, messageId, webSocketSession);
+                }
+                messageType = envelope.messageType();
+                messageTypeMapping = routingTable.get(messageType);
+                if (messageTypeMapping == null) {
+                    return reject(messageTypeNotFoundError, messageTypeNotFoundLog, "Message type '{}' not found. MessageId {}. Suppressed records: {}",
+                            messageType, messageId, webSocketSession);
+                }
             }
-            messageType = baseMessage.getMessageType();
-            var messageTypeMapping = messageTypeMappings.get(baseMessage.getMessageType());
-            if (messageTypeMapping == null) {
-                log.warn("Message type '{}' not found. MessageId {}", baseMessage.getMessageType(), messageId);
-                throw new MessageTypeNotFoundException(baseMessage.getMessageType());
+            if (admissionControl != null && !warmingUp && !admissionControl.admit(webSocketSession.getId(), messageType)) {
+                return reject(tooManyRequestsError, rateLimitedMessageLog, "Message type '{}' over the rate limit. MessageId {}. Suppressed records: {}",
+                        messageType, messageId, webSocketSession);
+            }
+            ByteBuffer cacheKey = null;
+            if (messageTypeMapping.cache() != null && !warmingUp) {
+                cacheKey = ResponseCache.key(payload, envelope.compact());
+                var cachedResponse = messageTypeMapping.cache().get(cacheKey, messageId);
+                if (cachedResponse != null) {
+                    log.trace("Cached response for message. MessageId {}, MessageType {}", messageId, messageType);
+                    return () -> send(cachedResponse, webSocketSession);
+                }
+            }
+            var typedMessage = messageTypeMapping.parser().parseFrom(payload);
+            if (start != 0L && messageTypeMapping.metrics().enabled()) {
+                messageTypeMapping.metrics().decoded(System.nanoTime() - start);
             }
-            var typedMessage = messageTypeMapping.parseFromMethod.invoke(null, message.getPayload());
             log.trace("Received message: {}", typedMessage);
-            Object response = null;
-            var methodParameterCount = messageTypeMapping.handlerMethod.getParameterCount();
-            if (methodParameterCount == 1) {
-                response = messageTypeMapping.handlerMethod.invoke(messageTypeMapping.bean, typedMessage);
-            } else if (methodParameterCount == 2) {
-                response = messageTypeMapping.handlerMethod.invoke(messageTypeMapping.bean, typedMessage, webSocketSession);
+            var routedMessageType = messageType;
+            var responseCacheKey = cacheKey;
+            return () -> handle(messageTypeMapping, typedMessage, envelope.messageId(), routedMessageType, envelope.compact(), responseCacheKey,
+                    webSocketSession);
+        } catch (IOException e) {
+            log.debug("Malformed message. MessageId {}, MessageType {}", messageId, messageType, e);
+            return reject(malformedMessageError, malformedMessageLog, "Malformed message ({}). MessageId {}. Suppressed records: {}",
+                    e.getMessage(), messageId, webSocketSession);
+        } catch (Exception e) {
+            var failedMessageId = messageId;
+            var failedMessageType = messageType;
+            return () -> handleException(e, failedMessageId, failedMessageType, webSocketSession);
+        }
+    }
+
+    /**
+     * Log the bad message with rate limit and return the task that sends the prepared Error frame,
+     * so a flood of bad messages costs about as much as valid ones.
+     *
+     * @param logFormat log format with placeholders for detail (if not null), messageId and number of suppressed records
+     */
+    private Runnable reject(ErrorFrame errorFrame, LogRateLimiter logRateLimiter, String logFormat, Object detail, String messageId,
+                            OutboundSessionDecorator webSocketSession) {
+        var suppressed = logRateLimiter.tryAcquire();
+        if (suppressed >= 0 && detail == null) {
+            log.warn(logFormat, messageId, suppressed);
+        } else if (suppressed >= 0) {
+            log.warn(logFormat, detail, messageId, suppressed);
+        }
+        return () -> sendError(errorFrame, messageId, webSocketSession);
+    }
+
+    private void sendError(ErrorFrame errorFrame, String messageId, OutboundSessionDecorator webSocketSession) {
+        metrics.error(errorFrame.exceptionClass());
+        try {
+            var binaryMessage = errorFrame.encode(messageId);
+            metrics.outbound(binaryMessage.getPayloadLength());
+            webSocketSession.sendEncoded(binaryMessage);
+        } catch (SessionLimitExceededException e) {
+            closeSlowSession(webSocketSession, e);
+        } catch (Exception e) {
+            log.debug("Error while send error response to session {}", webSocketSession.getId(), e);
+        }
+    }
+
+    private boolean isBatch(Envelope envelope) {
+        return is("Batch", envelope);
+    }
+
+    private boolean isCompressed(Envelope envelope) {
+        return is("Compressed", envelope);
+    }
+
+    private boolean is(String messageType, Envelope envelope) {
+        if (envelope.compact()) {
+            var messageTypeIds = routingTable.messageTypeIds();
+            return messageTypeIds != null && messageType.equals(messageTypeIds.messageType(envelope.messageTypeId()));
+        }
+        return messageType.equals(envelope.messageType());
+    }
+
+    /**
+     * Compressed messages of the batch share one binaflow.compression.max-inflated-size, so one incoming frame
+     * can't be inflated to more than the limit.
+     *
+     * @param compressedAllowed false if the batch is decompressed, then its messages can't be compressed
+     * @return task that handles messages of the batch in order. Error of one message doesn't affect others.
+     */
+    private Runnable decodeBatch(OutboundSessionDecorator webSocketSession, ByteBuffer payload, boolean compressedAllowed) throws IOException {
+        var messages = BatchDecoder.decode(payload);
+        var tasks = new Runnable[messages.size()];
+        var inflateLimit = compressor != null ? compressor.maxInflatedSize() : 0;
+        for (int i = 0; i < tasks.length; i++) {
+            var message = messages.get(i);
+            if (compressedAllowed && compressor != null) {
+                try {
+                    var envelope = EnvelopeDecoder.decode(message);
+                    if (isCompressed(envelope)) {
+                        message = compressor.decompress(message, Math.max(0, inflateLimit));
+                        inflateLimit -= message.remaining();
+                    }
+                } catch (IOException e) {
+                    log.debug("Malformed message in batch", e);
+                    tasks[i] = reject(malformedMessageError, malformedMessageLog, "Malformed message ({}). MessageId {}. Suppressed records: {}",
+                            e.getMessage(), null, webSocketSession);
+                    continue;
+                }
+            }
+            tasks[i] = decode(webSocketSession, message, false, false);
+        }
+        log.trace("Received batch of {} messages", tasks.length);
+        return () -> {
+            for (var task : tasks) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * @param cacheKey key of the response in the cache of the message type, null if the response is not cached
+     */
+    private void handle(MessageTypeMapping messageTypeMapping, Object typedMessage, String messageId, String messageType,
+                        boolean compact, ByteBuffer cacheKey, OutboundSessionDecorator webSocketSession) {
+        try {
+            var typeMetrics = messageTypeMapping.metrics();
+            // Timers can be bound while the handler runs, the time is recorded only if the start was taken
+            var timed = typeMetrics.enabled();
+            var start = timed ? System.nanoTime() : 0L;
+            var response = messageTypeMapping.handlerInvoker().invoke(typedMessage, webSocketSession);
+            if (timed) {
+                typeMetrics.handled(System.nanoTime() - start);
             }
-            if (response != null) {
-                respond((GeneratedMessage) response, webSocketSession);
+            if (response instanceof GeneratedMessage message && cacheKey != null) {
+                respondAndCache(message, typeMetrics, compact, messageTypeMapping.cache(), cacheKey, webSocketSession);
+            } else if (response instanceof GeneratedMessage message) {
+                respond(message, typeMetrics, compact, webSocketSession);
+            } else if (response != null && ResponseStream.isSingle(response)) {
+                single(response, typeMetrics, messageId, messageType, compact, webSocketSession);
+            } else if (response != null) {
+                stream(response, typeMetrics, messageId, messageType, compact, webSocketSession);
             }
-        } catch (BinaFlowException binaFlowException) {
+        } catch (Exception e) {
+            handleException(e, messageId, messageType, webSocketSession);
+        }
+    }
+
+    private void handleException(Exception e, String messageId, String messageType, OutboundSessionDecorator webSocketSession) {
+        if (e instanceof BinaFlowException binaFlowException) {
             binaFlowException.setMessageId(messageId);
             respondWithError(binaFlowException, webSocketSession);
-        } catch (Exception e) {
-            log.error("Unhandled exception. MessageId={}, MessageType={}", messageId, messageType, e);
-            var binaflowException = new BinaFlowException("Unhandled exception.", e);
-            binaflowException.setMessageId(messageId);
-            var problemDetail = binaflowException.getProblemDetail();
-            problemDetail.setTitle(properties.unhandledExceptions().fillMessage() ? e.getMessage() : "Unhandled exception");
-            problemDetail.setDetail("Unhandled exception" +
-                                    (properties.unhandledExceptions().fillMessage() ? "\nMessage: " + e.getMessage() : "") +
-                                    (properties.unhandledExceptions().fillExceptionClass() ? "\nException class: " + e.getClass() : "") +
-                                    (properties.unhandledExceptions().fillStackTrace() ? "\nStack trace: " + StackTraceUtils.toString(e.getStackTrace()) : ""));
+            return;
+        }
+        if (!warmingUp) {
+            var suppressed = unhandledExceptionLog.tryAcquire();
+            if (suppressed >= 0) {
+                log.error("Unhandled exception. MessageId={}, MessageType={}. Suppressed records: {}", messageId, messageType, suppressed, e);
+            }
+        } else if (warmupFailures.add(messageType)) {
+            log.warn("Handler of message type '{}' failed during warmup. " +
+                     "Provide samples with @MessageMapping(warmupSamples) or disable its warmup with @MessageMapping(warmup = false)",
+                    messageType, e);
+        }
+        if (unhandledExceptionError != null) {
+            sendError(unhandledExceptionError, messageId, webSocketSession);
+            return;
+        }
+        var binaflowException = unhandledException(e, messageType);
+        binaflowException.setMessageId(messageId);
+        respondWithError(binaflowException, webSocketSession);
+    }
+
+    /**
+     * @param e           exception of the handler, null for the prepared Error frame without details
+     * @param messageType message type of the failed message, null for the prepared Error frame
+     * @return exception with details allowed by binaflow.unhandled-exceptions
+     */
+    private BinaFlowException unhandledException(Exception e, String messageType) {
+        var binaflowException = new BinaFlowException("Unhandled exception.", e);
+        var problemDetail = binaflowException.getProblemDetail();
+        var unhandledExceptions = properties.unhandledExceptions();
+        problemDetail.setTitle(e != null && unhandledExceptions.fillMessage() ? e.getMessage() : "Unhandled exception");
+        problemDetail.setDetail(e == null ? "Unhandled exception" : "Unhandled exception" +
+                                (unhandledExceptions.fillMessage() ? "\nMessage: " + e.getMessage() : "") +
+                                (unhandledExceptions.fillExceptionClass() ? "\nException class: " + e.getClass() : "") +
+                                (unhandledExceptions.fillStackTrace() ? "\nStack trace: " + StackTraceUtils.toString(e.getStackTrace()) : ""));
+        if (messageType != null) {
             problemDetail.setInstance(URI.create(properties.httpPath() + "#" + messageType));
-            respondWithError(binaflowException, webSocketSession);
+        } else if (properties.httpPath() != null) {
+            problemDetail.setInstance(URI.create(properties.httpPath()));
         }
+        return binaflowException;
     }
 
-    @EventListener(ApplicationReadyEvent.class)
-    public void onApplicationReady() {
-        loadMessageTypesFromProtoSchemaFiles();
-        loadParseMethodsForMessageTypes();
-        loadControllers();
+    /**
+     * Build the routing table when all controllers are created.
+     * It is called before the web server is started, so the endpoint accepts connections only when handlers are ready.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.schema() != null && StringUtils.hasText(properties.schema().directory())) {
+            log.warn("Property binaflow.schema.directory is deprecated and ignored. Message types are loaded from handler methods.");
+        }
+        var messageTypeMappings = loadControllers();
+        log.info("Detected message types: {}", schemaMessageTypes);
+        if (properties.warmup().enabled()) {
+            // Handlers of the warmup table have no meters, so warmup messages are not recorded
+            this.routingTable = new RoutingTable(messageTypeMappings, schemaMessageTypes, properties.compact().enabled());
+            warmup(messageTypeMappings.values());
+        }
+        var routingTable = new RoutingTable(registerMetrics(messageTypeMappings), schemaMessageTypes, properties.compact().enabled());
+        if (routingTable.messageTypeIds() != null) {
+            log.info("Compact mode enabled. Message type ids: {}", routingTable.messageTypeIds().ids());
+        }
+        this.routingTable = routingTable;
+        this.ready = true;
+        log.info("Routing table is ready. Handled message types: {}", messageTypeMappings.keySet());
     }
 
     /**
-     * Reading all *.proto files in binaflow.schema.directory.
-     * For every file searching java_package line to define package,
-     * then search all messages and add this info in to messageTypeMappings
+     * @return true if handlers are loaded (and warmed up) and the service accepts connections
      */
-    private void loadMessageTypesFromProtoSchemaFiles() {
-        try {
-            messageTypeMappings.put("Ping", new MessageTypeMapping(Ping.class.getName(), Ping.class.getMethod("parseFrom", ByteBuffer.class)));
-        } catch (NoSuchMethodException e) {
-            // Not possible situation. Just catch it to avoid compilation error.
-            throw new RuntimeException(e);
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Run every handler with sample messages through decode, handle and respond, so the hot paths are compiled by JIT
+     * before the first client connects. Messages are handled on the current thread, responses are sent to a session without a socket.
+     * Warmup is stopped after binaflow.warmup.iterations or binaflow.warmup.time-limit.
+     */
+    private void warmup(Collection<MessageTypeMapping> messageTypeMappings) {
+        var messageTypeIds = routingTable.messageTypeIds();
+        var payloads = new ArrayList<ByteBuffer>();
+        for (var messageTypeMapping : messageTypeMappings) {
+            for (var sample : warmupSamples(messageTypeMapping)) {
+                var messageType = sample.getDescriptorForType().getName();
+                payloads.add(warmupPayload(ResponseType.stringField(1, messageType), sample));
+                if (messageTypeIds != null) {
+                    payloads.add(warmupPayload(messageTypeIds.prefix(messageType), sample));
+                }
+            }
         }
-        var schemaDirectory = properties.schema().directory();
-        if (StringUtils.hasText(schemaDirectory)) {
-            try {
-                var path = Path.of(schemaDirectory);
-                log.info("Searching .proto files in directory '{}'", schemaDirectory);
-                try (var directoryStream = Files.newDirectoryStream(path, "*.proto")) {
-                    for (var schemaFile : directoryStream) {
-                        log.debug("Searching java_package in '{}' file", schemaFile.getFileName());
-                        var schemaFileLines = Files.readAllLines(schemaFile);
-                        String dtoJavaPackage = null;
-                        for (var schemaFileLine : schemaFileLines) {
-                            if (schemaFileLine.matches(".*option\\s+java_package.*")) {
-                                int startIndex = schemaFileLine.indexOf("\"") + 1;
-                                int endIndex = schemaFileLine.lastIndexOf("\"");
-                                dtoJavaPackage = schemaFileLine.substring(startIndex, endIndex);
-                                log.debug("For schema '{}' dtoJavaPackage is '{}'", schemaFile.getFileName(), dtoJavaPackage);
-                                break;
-                            }
-                        }
-                        if (dtoJavaPackage == null) {
-                            log.error("For schema '{}' java_package is not found.", schemaFile.getFileName());
-                            System.exit(200);
-                        }
-                        for (var schemaFileLine : schemaFileLines) {
-                            var matcher = messageTypePattern.matcher(schemaFileLine);
-                            if (matcher.find()) {
-                                var messageType = matcher.group(1);
-                                var className = dtoJavaPackage + "." + messageType;
-                                messageTypeMappings.put(messageType, new MessageTypeMapping(className));
-                            }
-                        }
-                    }
+        if (payloads.isEmpty()) {
+            log.info("Warmup skipped, all handlers are excluded");
+            return;
+        }
+        var session = sessionRegistry.warmupSession();
+        var start = System.nanoTime();
+        var deadline = start + properties.warmup().timeLimit().toNanos();
+        var iterations = 0;
+        warmingUp = true;
+        try {
+            while (iterations < properties.warmup().iterations() && System.nanoTime() - deadline < 0) {
+                for (var payload : payloads) {
+                    decode(session, payload.duplicate(), true, true).run();
                 }
-            } catch (InvalidPathException e) {
-                log.error("Schema directory '{}' incorrect. Please check property binaflow.schema.directory", schemaDirectory, e);
-                System.exit(201);
-            } catch (IOException e) {
-                log.error("Error while read proto schema files.", e);
-                System.exit(202);
+                iterations++;
             }
-        } else {
-            log.error("Schema directory is empty. Please check property binaflow.schema.directory");
-            System.exit(203);
+        } finally {
+            warmingUp = false;
         }
-
-        log.info("Detected message types: {}", messageTypeMappings.keySet());
+        log.info("Warmup finished. {} iterations of {} messages in {} ms",
+                iterations, payloads.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     /**
-     * For each messageTypeMapping load class by class name and find 'parseFrom' method and save it into map.
+     * @return samples from the method named in {@link MessageMapping#warmupSamples()}, the empty message by default,
+     * or nothing if warmup of the handler is disabled
      */
-    private void loadParseMethodsForMessageTypes() {
-        for (var messageType : messageTypeMappings.keySet()) {
-            if (messageType.equals("Ping")) {
-                continue;
+    private List<Message> warmupSamples(MessageTypeMapping messageTypeMapping) {
+        var method = messageTypeMapping.handlerMethod();
+        var messageMapping = method.getAnnotation(MessageMapping.class);
+        var requestClass = method.getParameterTypes()[0];
+        if (!messageMapping.warmup()) {
+            return List.of();
+        }
+        if (!StringUtils.hasText(messageMapping.warmupSamples())) {
+            return List.of((Message) Internal.getDefaultInstance(requestClass.asSubclass(Message.class)));
+        }
+        var bean = messageTypeMapping.bean();
+        var target = Objects.requireNonNullElse(AopProxyUtils.getSingletonTarget(bean), bean);
+        var samplesMethod = ReflectionUtils.findMethod(AopUtils.getTargetClass(bean), messageMapping.warmupSamples());
+        if (samplesMethod == null) {
+            log.error("Binding error for mapping in '{}'.\n(warmup samples method '{}' without parameters not found)", method, messageMapping.warmupSamples());
+            System.exit(213);
+        }
+        ReflectionUtils.makeAccessible(samplesMethod);
+        var result = ReflectionUtils.invokeMethod(samplesMethod, target);
+        var samples = new ArrayList<>();
+        if (result instanceof Iterable<?> iterable) {
+            iterable.forEach(samples::add);
+        } else if (result instanceof Object[] array) {
+            samples.addAll(Arrays.asList(array));
+        } else if (result != null) {
+            samples.add(result);
+        }
+        var messages = new ArrayList<Message>();
+        for (var sample : samples) {
+            if (!requestClass.isInstance(sample)) {
+                log.error("Binding error for mapping in '{}'.\n(warmup sample '{}' is not an instance of '{}')", method, sample, requestClass.getName());
+                System.exit(214);
             }
-            log.debug("Load class for message type '{}'", messageType);
-            try {
-                var messageClass = Class.forName(messageTypeMappings.get(messageType).className);
-                messageTypeMappings.get(messageType).parseFromMethod = messageClass.getMethod("parseFrom", ByteBuffer.class);
-            } catch (ClassNotFoundException e) {
-                log.error("Class '{}' not found.", messageTypeMappings.get(messageType).className, e);
-                System.exit(204);
-            } catch (NoSuchMethodException e) {
-                log.error("Method 'parseFrom' not found in in class '{}'", messageTypeMappings.get(messageType).className, e);
-                System.exit(205);
+            messages.add((Message) sample);
+        }
+        return messages;
+    }
+
+    private static ByteBuffer warmupPayload(byte[] messageTypePrefix, Message sample) {
+        var messageIdPrefix = ResponseType.stringField(2, "warmup");
+        var sampleBytes = sample.toByteArray();
+        return ByteBuffer.allocate(messageTypePrefix.length + messageIdPrefix.length + sampleBytes.length)
+                .put(messageTypePrefix)
+                .put(messageIdPrefix)
+                .put(sampleBytes)
+                .flip();
+    }
+
+    /**
+     * @return message types with handlers, empty if handlers are not loaded yet
+     */
+    public Set<String> getMessageTypes() {
+        var routingTable = this.routingTable;
+        return routingTable == null ? Set.of() : routingTable.messageTypes();
+    }
+
+    /**
+     * Load message type of the handler parameter class and all messages of its .proto file.
+     *
+     * @return default instance of the message, message type is the name of its descriptor
+     */
+    private Message loadMessageType(Class<?> messageClass) {
+        var defaultInstance = (Message) Internal.getDefaultInstance(messageClass.asSubclass(Message.class));
+        loadSchemaMessageTypes(defaultInstance.getDescriptorForType().getFile());
+        return defaultInstance;
+    }
+
+    /**
+     * Collect all messages of the .proto file, so they get ids in compact mode.
+     * Descriptors are compiled into generated classes, so no schema files are read.
+     */
+    private void loadSchemaMessageTypes(Descriptors.FileDescriptor file) {
+        if (schemaFiles.add(file.getFullName())) {
+            log.debug("Loading message types of '{}'", file.getFullName());
+            loadSchemaMessageTypes(file.getMessageTypes());
+        }
+    }
+
+    private void loadSchemaMessageTypes(List<Descriptors.Descriptor> descriptors) {
+        for (var descriptor : descriptors) {
+            if (!descriptor.getOptions().getMapEntry()) {
+                schemaMessageTypes.add(descriptor.getName());
+                loadSchemaMessageTypes(descriptor.getNestedTypes());
             }
         }
     }
 
     /**
      * Load all classes marked as {@link Controller} and their methods marked as {@link MessageMapping},
-     * then save bean and method in messageTypeMappings
+     * then save bean, parser of the request message and generated handler invoker in messageTypeMappings.
+     * <p>Methods are searched in the target class, so proxied (AOP) controllers are supported.
+     *
+     * @return handlers by message type
      */
-    private void loadControllers() {
+    private Map<String, MessageTypeMapping> loadControllers() {
+        var messageTypeMappings = new HashMap<String, MessageTypeMapping>();
         var controllerBeans = applicationContext.getBeansWithAnnotation(Controller.class);
         for (var controllerEntry : controllerBeans.entrySet()) {
-            var methods = controllerEntry.getValue().getClass().getMethods();
+            var bean = controllerEntry.getValue();
+            var methods = AopUtils.getTargetClass(bean).getMethods();
             for (var method : methods) {
                 if (method.getAnnotation(MessageMapping.class) == null) {
                     continue;
                 }
                 var methodParameters = method.getParameters();
-                if (methodParameters == null) {
+                if (methodParameters.length == 0) {
                     log.error("Binding error for mapping in '{}'.\n(method has not parameters)", method);
                     System.exit(206);
                 }
-                String requestMessageTypeClassSimpleName = null;
-                if (GeneratedMessage.class.isAssignableFrom(methodParameters[0].getType())) {
-                    requestMessageTypeClassSimpleName = methodParameters[0].getType().getSimpleName();
-                } else {
+                if (!GeneratedMessage.class.isAssignableFrom(methodParameters[0].getType())
+                    || Modifier.isAbstract(methodParameters[0].getType().getModifiers())) {
                     log.error("Binding error for mapping in '{}'.\n(First parameter (request message type) must be proto class)", method);
                     System.exit(207);
                 }
-                if (method.getReturnType().equals(Void.class) || GeneratedMessage.class.isAssignableFrom(method.getReturnType())) {
+                if (method.getReturnType() == void.class
+                    || method.getReturnType().equals(Void.class)
+                    || GeneratedMessage.class.isAssignableFrom(method.getReturnType())
+                    || ResponseStream.isStream(method.getReturnType())) {
                     log.trace("Method '{}' return type is '{}'", method.getName(), method.getReturnType());
+                    if (GeneratedMessage.class.isAssignableFrom(method.getReturnType()) && !Modifier.isAbstract(method.getReturnType().getModifiers())) {
+                        responseTypes.get(method.getReturnType());
+                        loadSchemaMessageTypes(((Message) Internal.getDefaultInstance(method.getReturnType().asSubclass(Message.class)))
+                                .getDescriptorForType().getFile());
+                    }
                 } else {
-                    log.error("Binding error for mapping in '{}'.\n(Return type (response message type) must be proto class)", method);
+                    log.error("Binding error for mapping in '{}'.\n(Return type (response message type) must be proto class, Flow.Publisher, Publisher, Mono, Stream or Iterator)", method);
                     System.exit(208);
                 }
                 if (methodParameters.length >= 2 && !WebSocketSession.class.isAssignableFrom(methodParameters[1].getType())) {
                     log.error("Binding error for mapping in '{}'.\n(Second parameter must be WebSocketSession)", method);
                     System.exit(209);
                 }
-                var messageTypeMapping = messageTypeMappings.get(requestMessageTypeClassSimpleName);
-                if (messageTypeMapping == null) {
-                    log.error("Binding error for mapping in '{}'.\n(request message type={} is not correlated to any message type from schema)",
+                var requestClass = methodParameters[0].getType();
+                var requestMessage = loadMessageType(requestClass);
+                var messageType = requestMessage.getDescriptorForType().getName();
+                var existingMapping = messageTypeMappings.get(messageType);
+                if (existingMapping != null && !existingMapping.className().equals(requestClass.getName())) {
+                    log.error("Binding error for mapping in '{}'.\n(message type {} is already mapped to class '{}')",
                             method,
-                            requestMessageTypeClassSimpleName
+                            messageType,
+                            existingMapping.className()
                     );
                     System.exit(210);
                 }
-                if (messageTypeMapping.bean != null && messageTypeMapping.handlerMethod != null) {
+                if (existingMapping != null) {
                     log.error("Duplicated handler for message type '{}'\n1) {}\n2) {}",
-                            requestMessageTypeClassSimpleName,
+                            messageType,
                             method,
-                            messageTypeMapping.handlerMethod
+                            existingMapping.handlerMethod()
                     );
                     System.exit(211);
                 }
-                messageTypeMapping.bean = controllerEntry.getValue();
-                messageTypeMapping.handlerMethod = method;
-                log.debug("Handler for message type '{}' registered in '{}'",
-                        requestMessageTypeClassSimpleName,
-                        messageTypeMapping.handlerMethod
-                );
+                Method invocableMethod = null;
+                try {
+                    invocableMethod = AopUtils.selectInvocableMethod(method, bean.getClass());
+                } catch (IllegalStateException e) {
+                    log.error("Binding error for mapping in '{}'.\n(method is not invocable on proxy '{}')", method, bean.getClass(), e);
+                    System.exit(212);
+                }
+                messageTypeMappings.put(messageType, new MessageTypeMapping(requestClass.getName(),
+                        requestMessage.getParserForType(),
+                        bean,
+                        method,
+                        HandlerInvokers.create(bean, invocableMethod),
+                        MessageTypeMetrics.NOOP,
+                        responseCache(method)));
+                log.debug("Handler for message type '{}' registered in '{}'", messageType, method);
             }
         }
+        return messageTypeMappings;
     }
 
-    private void respond(Message message, WebSocketSession webSocketSession) {
+    /**
+     * @return cache of responses if the method is annotated with {@link CachedResponse}, otherwise null
+     */
+    private ResponseCache responseCache(Method method) {
+        var cachedResponse = method.getAnnotation(CachedResponse.class);
+        if (cachedResponse == null) {
+            return null;
+        }
+        if (!GeneratedMessage.class.isAssignableFrom(method.getReturnType())) {
+            log.error("Binding error for mapping in '{}'.\n(Only method returning proto class can be annotated with @CachedResponse)", method);
+            System.exit(215);
+        }
+        if (method.getParameterCount() > 1) {
+            // The key is the request only, a response built for one session would be sent to other sessions
+            log.error("Binding error for mapping in '{}'.\n(Method with WebSocketSession parameter can't be annotated with @CachedResponse)", method);
+            System.exit(217);
+        }
+        var cacheProperties = properties.cache();
         try {
-            var messageTypeFieldDescriptor = message.getDescriptorForType().findFieldByNumber(1);
-            var messageTypeSimpleClassName = message.getClass().getSimpleName();
-            if (!messageTypeSimpleClassName.equals(message.getField(messageTypeFieldDescriptor).toString())) {
-                // if users code set wrong message type, let's fix it for him
-                message = message.toBuilder().setField(messageTypeFieldDescriptor, messageTypeSimpleClassName).build();
+            var ttl = StringUtils.hasText(cachedResponse.ttl()) ? DurationStyle.detectAndParse(cachedResponse.ttl()) : cacheProperties.ttl();
+            var maxEntries = cachedResponse.maxEntries() > 0 ? cachedResponse.maxEntries() : cacheProperties.maxEntries();
+            return new ResponseCache(maxEntries, ttl, cacheProperties.offHeap());
+        } catch (IllegalArgumentException e) {
+            log.error("Binding error for mapping in '{}'.\n(Invalid @CachedResponse: {})", method, e.getMessage());
+            System.exit(216);
+            return null;
+        }
+    }
+
+    /**
+     * Create meters for message types with handlers, so tag cardinality is bounded by the schema.
+     */
+    private Map<String, MessageTypeMapping> registerMetrics(Map<String, MessageTypeMapping> messageTypeMappings) {
+        metrics.registerMessageTypes(List.copyOf(messageTypeMappings.keySet()));
+        var result = new HashMap<String, MessageTypeMapping>();
+        for (var entry : messageTypeMappings.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().withMetrics(metrics.messageType(entry.getKey())));
+            if (entry.getValue().cache() != null) {
+                metrics.registerCache(entry.getKey(), entry.getValue().cache());
             }
-            log.trace("Responding with message. {}", message);
-            webSocketSession.sendMessage(new BinaryMessage(message.toByteArray()));
+        }
+        return result;
+    }
+
+    /**
+     * @param compact true if the request was sent with messageType as id, so the response is sent the same way
+     */
+    private void respond(Message message, MessageTypeMetrics typeMetrics, boolean compact, OutboundSessionDecorator webSocketSession) {
+        try {
+            var binaryMessage = encodeResponse(message, typeMetrics, compact, NO_PREFIX, webSocketSession);
+            metrics.outbound(binaryMessage.getPayloadLength());
+            webSocketSession.sendEncoded(binaryMessage);
+        } catch (SessionLimitExceededException e) {
+            closeSlowSession(webSocketSession, e);
         } catch (IOException e) {
             throw new BinaFlowException("Error while send response", e);
         }
     }
 
-    private void respondWithError(BinaFlowException binaFlowException, WebSocketSession webSocketSession) {
+    /**
+     * Respond and put the serialized response into the cache before it is sent, because sent payload can be returned to the pool.
+     */
+    private void respondAndCache(Message message, MessageTypeMetrics typeMetrics, boolean compact, ResponseCache cache, ByteBuffer cacheKey,
+                                 OutboundSessionDecorator webSocketSession) {
         try {
-            webSocketSession.sendMessage(new BinaryMessage(binaFlowException.toErrorMessage().toByteArray()));
-        } catch (Exception e) {
-            log.error("Error while send error response. BinaFlowException: {}", binaFlowException, e);
+            var binaryMessage = encodeResponse(message, typeMetrics, compact, NO_PREFIX, webSocketSession);
+            cache.put(cacheKey, binaryMessage.getPayload());
+            metrics.outbound(binaryMessage.getPayloadLength());
+            webSocketSession.sendEncoded(binaryMessage);
+        } catch (SessionLimitExceededException e) {
+            closeSlowSession(webSocketSession, e);
+        } catch (IOException e) {
+            throw new BinaFlowException("Error while send response", e);
         }
     }
 
-    static class MessageTypeMapping {
-        private final String className; // Package + class name
-        private Object bean; // Controller
-        private Method handlerMethod; // Handler method in controller
-        private Method parseFromMethod; // 'parseFrom' method in java class for message type
+    private void send(BinaryMessage binaryMessage, OutboundSessionDecorator webSocketSession) {
+        try {
+            metrics.outbound(binaryMessage.getPayloadLength());
+            webSocketSession.sendEncoded(binaryMessage);
+        } catch (SessionLimitExceededException e) {
+            closeSlowSession(webSocketSession, e);
+        } catch (IOException e) {
+            log.debug("Error while send cached response to session {}", webSocketSession.getId(), e);
+        }
+    }
+
+    /**
+     * @param messageIdPrefix serialized messageId field written ahead of the message, empty if not needed
+     */
+    private BinaryMessage encodeResponse(Message message, MessageTypeMetrics typeMetrics, boolean compact, byte[] messageIdPrefix,
+                                         OutboundSessionDecorator webSocketSession) throws IOException {
+        var timed = typeMetrics.enabled();
+        var start = timed ? System.nanoTime() : 0L;
+        var responseType = responseTypes.get(message.getClass());
+        var messageType = responseType.messageTypeOf(message);
+        log.trace("Responding with message. {}", message);
+        var compactPrefix = compact ? routingTable.messageTypeIds().prefix(responseType.messageType()) : null;
+        BinaryMessage binaryMessage;
+        if (compactPrefix != null) {
+            if (responseType.messageTypeField() != null && !"".equals(messageType)) {
+                // messageType string must not be sent together with id
+                message = message.toBuilder().clearField(responseType.messageTypeField()).build();
+            }
+            binaryMessage = webSocketSession.encode(message, compactPrefix, messageIdPrefix);
+        } else if (responseType.messageType().equals(messageType) || responseType.messageTypeField() == null) {
+            binaryMessage = messageIdPrefix.length == 0
+                    ? webSocketSession.encode(message)
+                    : webSocketSession.encode(message, messageIdPrefix);
+        } else if ("".equals(messageType)) {
+            // messageType is not set by users code, let's write it ahead of the message
+            binaryMessage = webSocketSession.encode(message, responseType.messageTypePrefix(), messageIdPrefix);
+        } else {
+            // if users code set wrong message type, let's fix it for him
+            binaryMessage = webSocketSession.encode(message.toBuilder().setField(responseType.messageTypeField(), responseType.messageType()).build(),
+                    messageIdPrefix);
+        }
+        if (timed) {
+            typeMetrics.encoded(System.nanoTime() - start);
+        }
+        return binaryMessage;
+    }
+
+    /**
+     * Send the message of asynchronous single response (Mono) when it is emitted.
+     */
+    private void single(Object response, MessageTypeMetrics typeMetrics, String messageId, String messageType, boolean compact,
+                        OutboundSessionDecorator webSocketSession) {
+        ResponseStream.drain(response, new ResponseStream.Sink() {
+            @Override
+            public boolean next(Message message, Runnable demand) {
+                respond(message, typeMetrics, compact, webSocketSession);
+                demand.run();
+                return true;
+            }
+
+            @Override
+            public void complete(long count) {
+            }
+
+            @Override
+            public void error(Exception e) {
+                if (webSocketSession.isOpen()) {
+                    handleException(e, messageId, messageType, webSocketSession);
+                }
+            }
+        });
+    }
+
+    /**
+     * Send messages of streaming response with messageId of the request, then StreamEnd or Error.
+     */
+    private void stream(Object response, MessageTypeMetrics typeMetrics, String messageId, String messageType, boolean compact,
+                        OutboundSessionDecorator webSocketSession) {
+        var messageIdPrefix = StringUtils.hasLength(messageId) ? ResponseType.stringField(2, messageId) : NO_PREFIX;
+        ResponseStream.drain(response, new ResponseStream.Sink() {
+            @Override
+            public boolean next(Message message, Runnable demand) throws IOException {
+                if (!webSocketSession.isOpen()) {
+                    return false;
+                }
+                var responseType = responseTypes.get(message.getClass());
+                var binaryMessage = encodeResponse(message, typeMetrics, compact,
+                        responseType.messageIdMissing(message) ? messageIdPrefix : NO_PREFIX, webSocketSession);
+                // Demand of the stream is bounded by the outbound buffer of the session, the producer is not blocked.
+                // After the session is closed the demand makes the stream cancelled by the next message.
+                webSocketSession.whenBufferCapacity(binaryMessage.getPayloadLength(), () -> {
+                    sendStreamed(binaryMessage, webSocketSession);
+                    demand.run();
+                }, e -> {
+                    closeSlowSession(webSocketSession, e);
+                    demand.run();
+                });
+                return true;
+            }
+
+            @Override
+            public void complete(long count) {
+                var streamEnd = StreamEnd.newBuilder()
+                        .setMessageId(messageId == null ? "" : messageId)
+                        .setCount(count)
+                        .build();
+                try {
+                    respond(streamEnd, MessageTypeMetrics.NOOP, compact, webSocketSession);
+                } catch (BinaFlowException e) {
+                    log.debug("Error while send end of stream to session {}", webSocketSession.getId(), e);
+                }
+            }
 
-        public MessageTypeMapping(String className, Method parseFromMethod) {
-            this.className = className;
-            this.parseFromMethod = parseFromMethod;
+            @Override
+            public void error(Exception e) {
+                if (webSocketSession.isOpen()) {
+                    handleException(e, messageId, messageType, webSocketSession);
+                }
+            }
+        });
+    }
+
+    private void sendStreamed(BinaryMessage binaryMessage, OutboundSessionDecorator webSocketSession) {
+        try {
+            metrics.outbound(binaryMessage.getPayloadLength());
+            webSocketSession.sendEncoded(binaryMessage);
+        } catch (SessionLimitExceededException e) {
+            closeSlowSession(webSocketSession, e);
+        } catch (IOException e) {
+            log.debug("Error while send streamed message to session {}", webSocketSession.getId(), e);
+        }
+    }
+
+    private void respondWithError(BinaFlowException binaFlowException, OutboundSessionDecorator webSocketSession) {
+        metrics.error(binaFlowException.getClass());
+        try {
+            var binaryMessage = webSocketSession.encode(binaFlowException.toErrorMessage());
+            metrics.outbound(binaryMessage.getPayloadLength());
+            webSocketSession.sendEncoded(binaryMessage);
+        } catch (SessionLimitExceededException e) {
+            closeSlowSession(webSocketSession, e);
+        } catch (Exception e) {
+            log.error("Error while send error response. BinaFlowException: {}", binaFlowException, e);
         }
+    }
 
-        public MessageTypeMapping(String className) {
-            this.className = className;
+    private void closeSlowSession(WebSocketSession webSocketSession, SessionLimitExceededException e) {
+        log.warn("Closing session {}. {}", webSocketSession.getId(), e.getMessage());
+        try {
+            webSocketSession.close(e.getStatus());
+        } catch (IOException closeException) {
+            log.debug("Error while close session {}", webSocketSession.getId(), closeException);
         }
     }
 }
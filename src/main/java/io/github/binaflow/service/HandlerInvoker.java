@@ -0,0 +1,55 @@
+package io.github.binaflow.service;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a method annotated with {@link io.github.binaflow.annotation.MessageMapping} on its controller.
+ * <p>Invokers are generated once at startup by {@link HandlerInvokers}, so handling a message is a plain interface call
+ * without reflection, arguments array boxing and access checks.
+ */
+@FunctionalInterface
+public interface HandlerInvoker {
+
+    /**
+     * @param message          typed request message
+     * @param webSocketSession session the message came from
+     * @return response message or null if handler method has no response
+     */
+    Object invoke(Object message, WebSocketSession webSocketSession) throws Exception;
+
+    /**
+     * Generate the invoker of the handler method the same way as for handlers detected at startup.
+     *
+     * @param bean   controller bean, can be a proxy
+     * @param method handler method invocable on the bean
+     */
+    static HandlerInvoker of(Object bean, Method method) {
+        return HandlerInvokers.create(bean, method);
+    }
+
+    /**
+     * Shape of handler method {@code Response handler(Request)}.
+     */
+    @FunctionalInterface
+    interface MessageFunction {
+        Object apply(Object message);
+    }
+
+    /**
+     * Shape of handler method {@code void handler(Request)}.
+     */
+    @FunctionalInterface
+    interface MessageConsumer {
+        void accept(Object message);
+    }
+
+    /**
+     * Shape of handler method {@code void handler(Request, WebSocketSession)}.
+     */
+    @FunctionalInterface
+    interface SessionMessageConsumer {
+        void accept(Object message, WebSocketSession webSocketSession);
+    }
+}
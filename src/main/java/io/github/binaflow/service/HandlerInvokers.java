@@ -0,0 +1,104 @@
+package io.github.binaflow.service;
+
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Factory of {@link HandlerInvoker}.
+ * <p>Invoker is generated with {@link LambdaMetafactory}, so JIT can inline the handler method into the dispatch path.
+ * If lambda can not be generated (e.g. controller class is loaded by the class loader that is not visible for the lookup),
+ * bound {@link MethodHandle} is used instead.
+ */
+final class HandlerInvokers {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(HandlerInvokers.class);
+
+    private HandlerInvokers() {
+    }
+
+    /**
+     * @param bean   controller bean, can be a proxy
+     * @param method handler method invocable on the bean (see {@link org.springframework.aop.support.AopUtils#selectInvocableMethod})
+     */
+    static HandlerInvoker create(Object bean, Method method) {
+        try {
+            return generate(bean, method);
+        } catch (Throwable e) {
+            log.debug("Unable to generate invoker for '{}'. Method handle will be used.", method, e);
+            return bind(bean, method);
+        }
+    }
+
+    private static HandlerInvoker generate(Object bean, Method method) throws Throwable {
+        var lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        var implementation = lookup.unreflect(method);
+        var instantiatedType = implementation.type().dropParameterTypes(0, 1);
+        var withSession = method.getParameterCount() == 2;
+        var withResponse = method.getReturnType() != void.class;
+        if (withResponse && withSession) {
+            return (HandlerInvoker) metafactory(lookup, bean, HandlerInvoker.class, "invoke", implementation, instantiatedType,
+                    MethodType.methodType(Object.class, Object.class, WebSocketSession.class));
+        } else if (withResponse) {
+            var function = (HandlerInvoker.MessageFunction) metafactory(lookup, bean, HandlerInvoker.MessageFunction.class, "apply",
+                    implementation, instantiatedType, MethodType.methodType(Object.class, Object.class));
+            return (message, webSocketSession) -> function.apply(message);
+        } else if (withSession) {
+            var consumer = (HandlerInvoker.SessionMessageConsumer) metafactory(lookup, bean, HandlerInvoker.SessionMessageConsumer.class, "accept",
+                    implementation, instantiatedType, MethodType.methodType(void.class, Object.class, WebSocketSession.class));
+            return (message, webSocketSession) -> {
+                consumer.accept(message, webSocketSession);
+                return null;
+            };
+        } else {
+            var consumer = (HandlerInvoker.MessageConsumer) metafactory(lookup, bean, HandlerInvoker.MessageConsumer.class, "accept",
+                    implementation, instantiatedType, MethodType.methodType(void.class, Object.class));
+            return (message, webSocketSession) -> {
+                consumer.accept(message);
+                return null;
+            };
+        }
+    }
+
+    private static Object metafactory(MethodHandles.Lookup lookup, Object bean, Class<?> functionalInterface, String interfaceMethodName,
+                                      MethodHandle implementation, MethodType instantiatedType, MethodType interfaceMethodType) throws Throwable {
+        var callSite = LambdaMetafactory.metafactory(
+                lookup,
+                interfaceMethodName,
+                MethodType.methodType(functionalInterface, implementation.type().parameterType(0)),
+                interfaceMethodType,
+                implementation,
+                instantiatedType
+        );
+        return callSite.getTarget().invoke(bean);
+    }
+
+    private static HandlerInvoker bind(Object bean, Method method) {
+        MethodHandle handle;
+        try {
+            ReflectionUtils.makeAccessible(method);
+            handle = MethodHandles.lookup().unreflect(method).bindTo(bean);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Handler method '" + method + "' is not accessible", e);
+        }
+        if (method.getParameterCount() == 1) {
+            handle = MethodHandles.dropArguments(handle, 1, WebSocketSession.class);
+        }
+        var invoker = handle.asType(MethodType.methodType(Object.class, Object.class, WebSocketSession.class));
+        return (message, webSocketSession) -> {
+            try {
+                return invoker.invokeExact(message, webSocketSession);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+}
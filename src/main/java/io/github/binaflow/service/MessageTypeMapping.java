@@ -0,0 +1,31 @@
+package io.github.binaflow.service;
+
+import com.google.protobuf.Parser;
+import io.github.binaflow.cache.ResponseCache;
+import io.github.binaflow.metrics.MessageTypeMetrics;
+
+import java.lang.reflect.Method;
+
+/**
+ * Handler of a message type.
+ *
+ * @param className      package + class name of the request message
+ * @param parser         parser of the request message
+ * @param bean           controller
+ * @param handlerMethod  handler method in controller
+ * @param handlerInvoker generated invoker of handler method
+ * @param metrics        meters of message type, NOOP if metrics are disabled
+ * @param cache          cache of responses, null if responses are not cached
+ */
+record MessageTypeMapping(String className,
+                          Parser<?> parser,
+                          Object bean,
+                          Method handlerMethod,
+                          HandlerInvoker handlerInvoker,
+                          MessageTypeMetrics metrics,
+                          ResponseCache cache) {
+
+    MessageTypeMapping withMetrics(MessageTypeMetrics metrics) {
+        return new MessageTypeMapping(className, parser, bean, handlerMethod, handlerInvoker, metrics, cache);
+    }
+}
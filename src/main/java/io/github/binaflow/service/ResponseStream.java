@@ -0,0 +1,200 @@
+package io.github.binaflow.service;
+
+import com.google.protobuf.Message;
+import org.springframework.util.ClassUtils;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Streaming response of a handler method: {@link Flow.Publisher}, Reactive Streams {@code Publisher} (e.g. {@code Flux}),
+ * {@link Stream} or {@link Iterator} of messages.
+ * <p>Messages are passed to {@link Sink} one by one. Next message is taken (or requested from the publisher)
+ * only after the sink runs the demand of the previous one, e.g. when it fits into the outbound buffer of the session,
+ * so demand follows the speed of the client.
+ * <p>Stream and Iterator are drained on the handler thread, which waits for the demand, Stream is closed after that.
+ * Publisher is subscribed with demand of one message and drained on threads of the publisher,
+ * so the handler thread is released right after subscription. Threads of the publisher never wait for the demand,
+ * the next message is requested by the thread that runs it.
+ * <p>Reactor {@code Mono} is a single response ({@link #isSingle(Object)}), it is drained the same way, but without the end of stream.
+ */
+final class ResponseStream {
+
+    /**
+     * Receiver of streaming response, e.g. WebSocket session.
+     */
+    interface Sink {
+
+        /**
+         * Accept the message and run the demand once the next message can be accepted:
+         * on the calling thread if it can right away, otherwise later on another thread.
+         *
+         * @return false if the stream must be cancelled, e.g. session is closed. The demand is not run.
+         */
+        boolean next(Message message, Runnable demand) throws Exception;
+
+        void complete(long count);
+
+        void error(Exception e);
+    }
+
+    private static final boolean REACTIVE_STREAMS_PRESENT = ClassUtils.isPresent("org.reactivestreams.FlowAdapters", ResponseStream.class.getClassLoader());
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Mono", ResponseStream.class.getClassLoader());
+
+    private ResponseStream() {
+    }
+
+    static boolean isStream(Class<?> type) {
+        return Flow.Publisher.class.isAssignableFrom(type)
+               || Stream.class.isAssignableFrom(type)
+               || Iterator.class.isAssignableFrom(type)
+               || REACTIVE_STREAMS_PRESENT && ReactiveStreams.isPublisher(type);
+    }
+
+    /**
+     * @return true if the response is Reactor {@code Mono}, which emits at most one message
+     */
+    static boolean isSingle(Object response) {
+        return REACTOR_PRESENT && ReactiveStreams.isMono(response);
+    }
+
+    static void drain(Object response, Sink sink) {
+        if (REACTIVE_STREAMS_PRESENT && ReactiveStreams.isPublisher(response.getClass())) {
+            response = ReactiveStreams.toFlowPublisher(response);
+        }
+        switch (response) {
+            case Flow.Publisher<?> publisher -> publisher.subscribe(new StreamSubscriber(sink));
+            case Stream<?> stream -> {
+                try (stream) {
+                    drain(stream.iterator(), sink);
+                }
+            }
+            case Iterator<?> iterator -> drain(iterator, sink);
+            default -> throw new IllegalArgumentException("Unsupported streaming response " + response.getClass());
+        }
+    }
+
+    private static void drain(Iterator<?> iterator, Sink sink) {
+        long count = 0;
+        var demand = new Semaphore(0);
+        try {
+            while (iterator.hasNext()) {
+                if (!sink.next((Message) iterator.next(), demand::release)) {
+                    return;
+                }
+                count++;
+                demand.acquire();
+            }
+        } catch (Exception e) {
+            sink.error(e);
+            return;
+        }
+        sink.complete(count);
+    }
+
+    /**
+     * Requests next message only when the sink runs the demand of the previous one.
+     * The end of the stream is passed to the sink after the demand of the last message, so it doesn't overtake it.
+     */
+    private static final class StreamSubscriber implements Flow.Subscriber<Object> {
+
+        private final Sink sink;
+        private Flow.Subscription subscription;
+        private long count;
+        private boolean done;
+        private boolean awaitingDemand; // Sink has not run the demand of the last message yet, guarded by this
+        private Runnable end; // End of the stream signalled while awaiting the demand, guarded by this
+
+        private StreamSubscriber(Sink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            if (done) {
+                return;
+            }
+            count++;
+            synchronized (this) {
+                awaitingDemand = true;
+            }
+            try {
+                if (!sink.next((Message) item, this::demand)) {
+                    done = true;
+                    subscription.cancel();
+                }
+            } catch (Exception e) {
+                done = true;
+                subscription.cancel();
+                sink.error(e);
+            }
+        }
+
+        private void demand() {
+            Runnable end;
+            synchronized (this) {
+                awaitingDemand = false;
+                end = this.end;
+                this.end = null;
+            }
+            if (end != null) {
+                end.run();
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                end(() -> sink.error(throwable instanceof Exception e ? e : new IllegalStateException(throwable)));
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                var count = this.count;
+                end(() -> sink.complete(count));
+            }
+        }
+
+        private void end(Runnable end) {
+            synchronized (this) {
+                if (awaitingDemand) {
+                    this.end = end;
+                    return;
+                }
+            }
+            end.run();
+        }
+    }
+
+    /**
+     * Reactive Streams and Reactor specific code, in its own class, so they are optional dependencies.
+     */
+    private static final class ReactiveStreams {
+
+        static boolean isPublisher(Class<?> type) {
+            return org.reactivestreams.Publisher.class.isAssignableFrom(type);
+        }
+
+        static boolean isMono(Object response) {
+            return response instanceof reactor.core.publisher.Mono;
+        }
+
+        static Flow.Publisher<?> toFlowPublisher(Object publisher) {
+            return org.reactivestreams.FlowAdapters.toFlowPublisher((org.reactivestreams.Publisher<?>) publisher);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.binaflow.service;
+
+import io.github.binaflow.codec.MessageTypeIds;
+import io.github.binaflow.dto.MessageTypeTable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable routing table of message types to their handlers.
+ * <p>Built once before the WebSocket endpoint accepts connections and published with a single volatile write,
+ * so I/O threads read it without locks. Message types are looked up in an immutable hash map,
+ * message type ids of compact mode by array index.
+ */
+final class RoutingTable {
+
+    /**
+     * Message types of the base schema that are sent by the server.
+     */
+    private static final List<String> BASE_MESSAGE_TYPES = List.of("Pong", "Error", "MessageTypeTable", "Batch", "Compressed", "StreamEnd");
+
+    private final Map<String, MessageTypeMapping> mappings; // Key - message type
+    private final MessageTypeIds messageTypeIds; // null if compact mode is disabled
+    private final MessageTypeMapping[] mappingsById; // Index - message type id, empty if compact mode is disabled
+    private final MessageTypeTable messageTypeTable; // null if compact mode is disabled
+
+    /**
+     * @param mappings     handlers by message type
+     * @param messageTypes all known message types, they get ids in compact mode
+     * @param compact      assign ids to message types (binaflow.compact.enabled)
+     */
+    RoutingTable(Map<String, MessageTypeMapping> mappings, Set<String> messageTypes, boolean compact) {
+        this.mappings = Map.copyOf(mappings);
+        if (!compact) {
+            this.messageTypeIds = null;
+            this.mappingsById = new MessageTypeMapping[0];
+            this.messageTypeTable = null;
+            return;
+        }
+        var allMessageTypes = new HashSet<>(messageTypes);
+        allMessageTypes.addAll(mappings.keySet());
+        allMessageTypes.addAll(BASE_MESSAGE_TYPES);
+        this.messageTypeIds = new MessageTypeIds(allMessageTypes);
+        var ids = messageTypeIds.ids();
+        this.mappingsById = new MessageTypeMapping[messageTypeIds.maxId() + 1];
+        for (var entry : mappings.entrySet()) {
+            mappingsById[ids.get(entry.getKey())] = entry.getValue();
+        }
+        this.messageTypeTable = MessageTypeTable.newBuilder()
+                .setMessageType("MessageTypeTable")
+                .putAllIds(ids)
+                .build();
+    }
+
+    /**
+     * @return handler of the message type or null if message type has no handler
+     */
+    MessageTypeMapping get(String messageType) {
+        return mappings.get(messageType);
+    }
+
+    /**
+     * @return handler of the message type id or null if message type has no handler
+     */
+    MessageTypeMapping get(int messageTypeId) {
+        return messageTypeId >= 0 && messageTypeId < mappingsById.length ? mappingsById[messageTypeId] : null;
+    }
+
+    /**
+     * @return ids of message types, null if compact mode is disabled
+     */
+    MessageTypeIds messageTypeIds() {
+        return messageTypeIds;
+    }
+
+    /**
+     * @return table of message type ids sent to clients, null if compact mode is disabled
+     */
+    MessageTypeTable messageTypeTable() {
+        return messageTypeTable;
+    }
+
+    Set<String> messageTypes() {
+        return mappings.keySet();
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.binaflow.session;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Serialized messages waiting to be sent in one {@code Batch} frame (see base-schema.proto).
+ * <p>Messages are copied into the frame as they are added. Batch with one message is sent as the message itself.
+ * The frame array starts small and grows twice up to binaflow.batch.max-size,
+ * so sessions sending few small messages don't allocate max-size for every batch.
+ * Not thread safe.
+ */
+final class OutboundBatch {
+
+    private static final byte[] HEADER = header();
+    private static final byte MESSAGES_TAG = 3 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int ENTRY_OVERHEAD = 1 + 5; // Tag + max varint32 length
+    static final int INITIAL_CAPACITY = 1024;
+
+    private final int maxSize;
+    private byte[] bytes;
+    private int size;
+    private int count;
+    private int firstOffset;
+
+    OutboundBatch(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return true if the message doesn't fit into the batch, so it must be sent in its own frame
+     */
+    boolean tooBig(int messageSize) {
+        return HEADER.length + ENTRY_OVERHEAD + messageSize > maxSize;
+    }
+
+    /**
+     * @return true if the batch can't take the message, so it must be drained first
+     */
+    boolean wouldOverflow(int messageSize) {
+        return count > 0 && size + ENTRY_OVERHEAD + messageSize > maxSize;
+    }
+
+    void add(ByteBuffer payload) {
+        var length = payload.remaining();
+        if (bytes == null) {
+            bytes = new byte[Math.min(maxSize, Math.max(INITIAL_CAPACITY, HEADER.length + ENTRY_OVERHEAD + length))];
+            System.arraycopy(HEADER, 0, bytes, 0, HEADER.length);
+            size = HEADER.length;
+        } else if (size + ENTRY_OVERHEAD + length > bytes.length) {
+            var capacity = Math.max(size + ENTRY_OVERHEAD + length, (int) Math.min(maxSize, bytes.length * 2L));
+            bytes = Arrays.copyOf(bytes, Math.min(maxSize, capacity));
+        }
+        bytes[size++] = MESSAGES_TAG;
+        // Varint of the length
+        while ((length & ~0x7F) != 0) {
+            bytes[size++] = (byte) ((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        bytes[size++] = (byte) length;
+        if (count == 0) {
+            firstOffset = size;
+        }
+        payload.duplicate().get(bytes, size, payload.remaining());
+        size += payload.remaining();
+        count++;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    boolean isFull() {
+        return size + ENTRY_OVERHEAD >= maxSize;
+    }
+
+    /**
+     * @return Batch frame, or the only message, or null if batch is empty
+     */
+    BinaryMessage drain() {
+        if (count == 0) {
+            return null;
+        }
+        var message = count == 1
+                ? new BinaryMessage(ByteBuffer.wrap(bytes, firstOffset, size - firstOffset).slice())
+                : new BinaryMessage(ByteBuffer.wrap(bytes, 0, size).slice());
+        bytes = null; // Array is handed over to the message
+        size = 0;
+        count = 0;
+        return message;
+    }
+
+    /**
+     * @return serialized messageType field
+     */
+    private static byte[] header() {
+        var header = new byte[CodedOutputStream.computeStringSize(1, "Batch")];
+        var output = CodedOutputStream.newInstance(header);
+        try {
+            output.writeString(1, "Batch");
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Not possible situation, array is sized exactly.
+            throw new IllegalStateException(e);
+        }
+        return header;
+    }
+}
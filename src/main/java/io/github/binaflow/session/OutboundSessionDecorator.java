@@ -0,0 +1,309 @@
+package io.github.binaflow.session;
+
+import com.google.protobuf.MessageLite;
+import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.codec.Compressor;
+import io.github.binaflow.codec.MessageEncoder;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Thread safe session with bounded outbound buffer.
+ * <p>Messages sent while another thread is writing to the socket are buffered and written by that thread,
+ * so the caller is blocked only if it writes itself. When the buffer exceeds binaflow.outbound.buffer-size-limit,
+ * binaflow.outbound.overflow-policy is applied:<br>
+ * - drop - the oldest buffered messages are dropped.<br>
+ * - close - the session is closed with status {@link CloseStatus#SESSION_NOT_RELIABLE}.<br>
+ * - block - the caller waits until the buffer is drained, but not longer than binaflow.outbound.send-time-limit,
+ * then the session is closed.
+ * <p>If batching is enabled (binaflow.batch.enabled), messages sent with {@link #sendMessage(MessageLite)} and {@link #sendEncoded(BinaryMessage)}
+ * are coalesced into {@code Batch} frames. Batch is sent when it reaches binaflow.batch.max-size
+ * or binaflow.batch.linger after its first message. Messages sent with {@link #sendMessage(WebSocketMessage)} are not batched.
+ * <p>If compression is enabled (binaflow.compression.enabled), messages and batches not smaller than binaflow.compression.threshold
+ * are sent as {@code Compressed} frames.
+ * <p>Messages published to many sessions are serialized once and sent with {@link #sendShared(SharedMessage)}.
+ */
+public class OutboundSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(OutboundSessionDecorator.class);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MessageEncoder messageEncoder;
+    private final PooledPayloads pooledPayloads; // null if pooling is disabled
+    private final BinaFlowProperties.Outbound.OverflowPolicy overflowPolicy;
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitNanos;
+    private final OutboundBatch batch; // null if batching is disabled
+    private final ScheduledExecutorService scheduler;
+    private final long lingerNanos;
+    private final Compressor compressor; // null if compression is disabled
+
+    OutboundSessionDecorator(WebSocketSession delegate,
+                             BinaFlowProperties.Outbound properties,
+                             MessageEncoder messageEncoder,
+                             PooledPayloads pooledPayloads,
+                             BinaFlowProperties.Batch batchProperties,
+                             ScheduledExecutorService scheduler,
+                             Compressor compressor) {
+        super(delegate,
+                (int) properties.sendTimeLimit().toMillis(),
+                properties.overflowPolicy() == BinaFlowProperties.Outbound.OverflowPolicy.BLOCK
+                        ? Integer.MAX_VALUE
+                        : (int) properties.bufferSizeLimit().toBytes(),
+                properties.overflowPolicy() == BinaFlowProperties.Outbound.OverflowPolicy.DROP
+                        ? OverflowStrategy.DROP
+                        : OverflowStrategy.TERMINATE);
+        this.messageEncoder = messageEncoder;
+        this.pooledPayloads = pooledPayloads;
+        this.overflowPolicy = properties.overflowPolicy();
+        this.bufferSizeLimit = (int) properties.bufferSizeLimit().toBytes();
+        this.sendTimeLimitNanos = properties.sendTimeLimit().toNanos();
+        this.batch = batchProperties.enabled() ? new OutboundBatch((int) batchProperties.maxSize().toBytes()) : null;
+        this.scheduler = scheduler;
+        this.lingerNanos = batchProperties.linger().toNanos();
+        this.compressor = compressor;
+    }
+
+    /**
+     * Serialize message with {@link MessageEncoder} and send it.
+     *
+     * @throws SessionLimitExceededException if the session must be closed because of overflow or slow send
+     */
+    public void sendMessage(MessageLite message) throws IOException {
+        sendEncoded(encode(message));
+    }
+
+    /**
+     * Serialize message with already serialized fields written ahead of it and send it.
+     *
+     * @throws SessionLimitExceededException if the session must be closed because of overflow or slow send
+     * @see MessageEncoder#encode(MessageLite, byte[])
+     */
+    public void sendMessage(MessageLite message, byte[] prefix) throws IOException {
+        sendEncoded(encode(message, prefix));
+    }
+
+    /**
+     * Serialize message with {@link MessageEncoder}. The result must be sent with {@link #sendEncoded(BinaryMessage)}.
+     */
+    public BinaryMessage encode(MessageLite message) throws IOException {
+        return messageEncoder.encode(message);
+    }
+
+    /**
+     * @see MessageEncoder#encode(MessageLite, byte[])
+     */
+    public BinaryMessage encode(MessageLite message, byte[] prefix) throws IOException {
+        return messageEncoder.encode(message, prefix);
+    }
+
+    /**
+     * @see MessageEncoder#encode(MessageLite, byte[], byte[])
+     */
+    public BinaryMessage encode(MessageLite message, byte[] prefix, byte[] secondPrefix) throws IOException {
+        return messageEncoder.encode(message, prefix, secondPrefix);
+    }
+
+    /**
+     * Send message serialized with {@link #encode(MessageLite)}. Pooled payload is returned to the pool after it is written.
+     *
+     * @throws SessionLimitExceededException if the session must be closed because of overflow or slow send
+     */
+    public void sendEncoded(BinaryMessage binaryMessage) throws IOException {
+        if (batch != null) {
+            sendBatched(binaryMessage);
+        } else {
+            sendFrame(binaryMessage);
+        }
+    }
+
+    /**
+     * Send message in its own frame, compressed if it is big enough.
+     */
+    private void sendFrame(BinaryMessage binaryMessage) throws IOException {
+        var compressed = compress(binaryMessage);
+        if (compressed != null) {
+            // Payload is copied into the compressed frame
+            messageEncoder.release(binaryMessage);
+            sendMessage(compressed);
+            return;
+        }
+        if (pooledPayloads != null) {
+            pooledPayloads.add(binaryMessage.getPayload());
+        }
+        sendMessage(binaryMessage);
+    }
+
+    /**
+     * @return Compressed frame or null if compression is disabled, message is small or not compressible
+     */
+    private BinaryMessage compress(BinaryMessage binaryMessage) {
+        if (compressor == null || !compressor.shouldCompress(binaryMessage.getPayloadLength())) {
+            return null;
+        }
+        return compressor.compress(binaryMessage.getPayload());
+    }
+
+    /**
+     * Send message serialized once for many sessions. Its buffers are only read, so the same message can be sent
+     * to other sessions concurrently.
+     *
+     * @throws SessionLimitExceededException if the session must be closed because of overflow or slow send
+     */
+    public void sendShared(SharedMessage message) throws IOException {
+        if (batch != null) {
+            synchronized (batch) {
+                if (!addToBatch(message.payload())) {
+                    sendMessage(message.frame());
+                }
+            }
+            return;
+        }
+        sendMessage(message.frame());
+    }
+
+    private void sendBatched(BinaryMessage binaryMessage) throws IOException {
+        synchronized (batch) {
+            if (!addToBatch(binaryMessage.getPayload())) {
+                sendFrame(binaryMessage);
+                return;
+            }
+        }
+        // Payload is copied into the batch
+        messageEncoder.release(binaryMessage);
+    }
+
+    /**
+     * Must be called under the lock of the batch. Messages are sent under the lock,
+     * so batches and not batched messages keep their order.
+     *
+     * @return false if the message is too big for a batch and must be sent in its own frame
+     */
+    private boolean addToBatch(ByteBuffer payload) throws IOException {
+        var length = payload.remaining();
+        if (batch.wouldOverflow(length) || batch.tooBig(length)) {
+            flushBatch();
+        }
+        if (batch.tooBig(length)) {
+            return false;
+        }
+        var first = batch.isEmpty();
+        batch.add(payload);
+        if (batch.isFull()) {
+            flushBatch();
+        } else if (first) {
+            // Flush is started on a virtual thread, because sending can block until send-time-limit
+            scheduler.schedule(() -> Thread.startVirtualThread(this::lingerFlush), lingerNanos, TimeUnit.NANOSECONDS);
+        }
+        return true;
+    }
+
+    private void flushBatch() throws IOException {
+        var message = batch.drain();
+        if (message == null) {
+            return;
+        }
+        var compressed = compress(message);
+        sendMessage(compressed != null ? compressed : message);
+    }
+
+    private void lingerFlush() {
+        try {
+            synchronized (batch) {
+                flushBatch();
+            }
+        } catch (SessionLimitExceededException e) {
+            log.warn("Closing session {}. {}", getId(), e.getMessage());
+            try {
+                close(e.getStatus());
+            } catch (IOException closeException) {
+                log.debug("Error while close session {}", getId(), closeException);
+            }
+        } catch (IOException e) {
+            log.debug("Error while send batch to session {}", getId(), e);
+        }
+    }
+
+    /**
+     * @throws SessionLimitExceededException if the session must be closed because of overflow or slow send
+     */
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (overflowPolicy == BinaFlowProperties.Outbound.OverflowPolicy.BLOCK) {
+            awaitBufferCapacity();
+        }
+        super.sendMessage(message);
+    }
+
+    private void awaitBufferCapacity() {
+        awaitBufferSize(bufferSizeLimit - 1);
+    }
+
+    /**
+     * Run the action when the message of the given size fits into the outbound buffer, without blocking the caller:
+     * right away on the calling thread if it fits, otherwise on a virtual thread after the buffer is drained,
+     * which is re-checked by the scheduler. So a producer of messages (e.g. publisher of streaming response)
+     * is not faster than the client and its thread is never parked.
+     * Message bigger than the limit is allowed when the buffer is empty. If the session is closed, the action is run right away.
+     *
+     * @param onTimeout called on a virtual thread instead of the action if the buffer is not drained in binaflow.outbound.send-time-limit
+     */
+    public void whenBufferCapacity(int messageSize, Runnable action, Consumer<SessionLimitExceededException> onTimeout) {
+        var maxBufferSize = Math.max(0, bufferSizeLimit - messageSize);
+        if (getBufferSize() <= maxBufferSize || !isOpen()) {
+            action.run();
+            return;
+        }
+        scheduleBufferCheck(maxBufferSize, System.nanoTime() + sendTimeLimitNanos, action, onTimeout);
+    }
+
+    private void scheduleBufferCheck(int maxBufferSize, long deadline, Runnable action, Consumer<SessionLimitExceededException> onTimeout) {
+        try {
+            scheduler.schedule(() -> {
+                if (getBufferSize() <= maxBufferSize || !isOpen()) {
+                    // Action sends to the socket, which can block, so it is not run on the shared scheduler thread
+                    Thread.startVirtualThread(action);
+                } else if (System.nanoTime() - deadline > 0) {
+                    var exception = new SessionLimitExceededException(
+                            "Buffer size " + getBufferSize() + " bytes for session '" + getId() + "' was not drained in " +
+                            TimeUnit.NANOSECONDS.toMillis(sendTimeLimitNanos) + " ms",
+                            CloseStatus.SESSION_NOT_RELIABLE);
+                    Thread.startVirtualThread(() -> onTimeout.accept(exception));
+                } else {
+                    scheduleBufferCheck(maxBufferSize, deadline, action, onTimeout);
+                }
+            }, BLOCK_PARK_NANOS, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Scheduler is shut down with the application, the buffer is not awaited
+            action.run();
+        }
+    }
+
+    private void awaitBufferSize(int maxBufferSize) {
+        if (getBufferSize() <= maxBufferSize) {
+            return;
+        }
+        var deadline = System.nanoTime() + sendTimeLimitNanos;
+        while (getBufferSize() > maxBufferSize && isOpen()) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new SessionLimitExceededException(
+                        "Buffer size " + getBufferSize() + " bytes for session '" + getId() + "' was not drained in " +
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeLimitNanos) + " ms",
+                        CloseStatus.SESSION_NOT_RELIABLE);
+            }
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.binaflow.session;
+
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Pooled payloads of one session that are not yet written to the socket.
+ * <p>Payloads are compared by identity, because {@link ByteBuffer#equals} compares content.
+ * Payloads of messages that were never written (dropped on overflow or sent after close) stay here
+ * and are collected by GC together with the session. If too many of them are kept, they are forgotten.
+ */
+final class PooledPayloads {
+
+    private static final int MAX_SIZE = 1024;
+
+    private final Map<ByteBuffer, Boolean> payloads = new IdentityHashMap<>();
+
+    synchronized void add(ByteBuffer payload) {
+        if (payloads.size() >= MAX_SIZE) {
+            payloads.clear();
+        }
+        payloads.put(payload, Boolean.TRUE);
+    }
+
+    /**
+     * @return true if the payload was added and is removed now
+     */
+    synchronized boolean remove(ByteBuffer payload) {
+        return payloads.remove(payload) != null;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.binaflow.session;
+
+import io.github.binaflow.codec.MessageEncoder;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+
+/**
+ * Returns pooled payload of binary message to the pool after the container has written the message.
+ */
+class ReleasingSessionDecorator extends WebSocketSessionDecorator {
+
+    private final MessageEncoder messageEncoder;
+    private final PooledPayloads pooledPayloads;
+
+    ReleasingSessionDecorator(WebSocketSession delegate, MessageEncoder messageEncoder, PooledPayloads pooledPayloads) {
+        super(delegate);
+        this.messageEncoder = messageEncoder;
+        this.pooledPayloads = pooledPayloads;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        try {
+            super.sendMessage(message);
+        } finally {
+            if (message instanceof BinaryMessage binaryMessage && pooledPayloads.remove(binaryMessage.getPayload())) {
+                messageEncoder.release(binaryMessage);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.binaflow.session;
+
+import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.codec.Compressor;
+import io.github.binaflow.codec.MessageEncoder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Registry of open sessions.
+ * <p>Every session is wrapped into {@link OutboundSessionDecorator} on connect,
+ * and only the decorated session is used for sending messages.
+ * If buffer pool is enabled, pooled payloads are returned to the pool after they are written to the socket.
+ * One scheduler thread is shared by all sessions for linger flushes of batches and re-checks of outbound buffers
+ * ({@link OutboundSessionDecorator#whenBufferCapacity}).
+ */
+public class SessionRegistry implements DisposableBean {
+
+    private final BinaFlowProperties.Outbound properties;
+    private final BinaFlowProperties.Batch batchProperties;
+    private final ScheduledExecutorService scheduler;
+    private final MessageEncoder messageEncoder;
+    private final Compressor compressor; // null if compression is disabled
+    private final Map<String, OutboundSessionDecorator> sessions = new ConcurrentHashMap<>(); // Key - session id
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public SessionRegistry(BinaFlowProperties.Outbound properties,
+                           BinaFlowProperties.Batch batchProperties,
+                           MessageEncoder messageEncoder,
+                           Compressor compressor) {
+        this.properties = properties;
+        this.batchProperties = batchProperties;
+        this.messageEncoder = messageEncoder;
+        this.compressor = compressor;
+        var threadFactory = new CustomizableThreadFactory("binaflow-outbound-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    public OutboundSessionDecorator register(WebSocketSession webSocketSession) {
+        var session = decorate(webSocketSession);
+        sessions.put(webSocketSession.getId(), session);
+        for (var listener : listeners) {
+            listener.onRegistered(session);
+        }
+        return session;
+    }
+
+    /**
+     * @return not registered session without a socket, messages sent to it are discarded
+     */
+    public OutboundSessionDecorator warmupSession() {
+        return decorate(new NullWebSocketSession("warmup"));
+    }
+
+    private OutboundSessionDecorator decorate(WebSocketSession webSocketSession) {
+        if (messageEncoder.isPooled()) {
+            var pooledPayloads = new PooledPayloads();
+            return new OutboundSessionDecorator(
+                    new ReleasingSessionDecorator(webSocketSession, messageEncoder, pooledPayloads), properties, messageEncoder, pooledPayloads,
+                    batchProperties, scheduler, compressor);
+        }
+        return new OutboundSessionDecorator(webSocketSession, properties, messageEncoder, null, batchProperties, scheduler, compressor);
+    }
+
+    public void unregister(WebSocketSession webSocketSession) {
+        var session = sessions.remove(webSocketSession.getId());
+        if (session == null) {
+            return;
+        }
+        for (var listener : listeners) {
+            listener.onUnregistered(session);
+        }
+    }
+
+    /**
+     * @return decorated session or null if session is not registered (already closed)
+     */
+    public OutboundSessionDecorator get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    public Collection<OutboundSessionDecorator> sessions() {
+        return sessions.values();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Listener of session registration, e.g. for subscriptions of the publisher.
+     */
+    public interface Listener {
+
+        void onRegistered(OutboundSessionDecorator session);
+
+        void onUnregistered(OutboundSessionDecorator session);
+    }
+}
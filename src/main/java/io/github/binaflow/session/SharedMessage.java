@@ -0,0 +1,42 @@
+package io.github.binaflow.session;
+
+import com.google.protobuf.MessageLite;
+import io.github.binaflow.codec.Compressor;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Message serialized once to be sent to many sessions with {@link OutboundSessionDecorator#sendShared(SharedMessage)}.
+ * <p>Buffers are read-only and never returned to the buffer pool, every session sends its own view of them.
+ * If compression is enabled and the message is big enough, it is compressed once too.
+ */
+public final class SharedMessage {
+
+    private final ByteBuffer payload;
+    private final ByteBuffer frame; // Compressed frame or the payload
+
+    /**
+     * @param compressor null if compression is disabled
+     */
+    public SharedMessage(MessageLite message, Compressor compressor) {
+        this.payload = ByteBuffer.wrap(message.toByteArray()).asReadOnlyBuffer();
+        var compressed = compressor != null && compressor.shouldCompress(payload.remaining()) ? compressor.compress(payload) : null;
+        this.frame = compressed != null ? compressed.getPayload().asReadOnlyBuffer() : payload;
+    }
+
+    /**
+     * @return size of the frame sent to a session
+     */
+    public int length() {
+        return frame.remaining();
+    }
+
+    ByteBuffer payload() {
+        return payload.duplicate();
+    }
+
+    BinaryMessage frame() {
+        return new BinaryMessage(frame.duplicate());
+    }
+}
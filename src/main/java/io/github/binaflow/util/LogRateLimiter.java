@@ -0,0 +1,34 @@
+package io.github.binaflow.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Allows one log record per interval, so a flood of bad messages doesn't flood the log.
+ * <p>Usage: {@code var suppressed = limiter.tryAcquire(); if (suppressed >= 0) log.warn("... Suppressed: {}", suppressed);}
+ */
+public final class LogRateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong nextLogNanos;
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogRateLimiter(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextLogNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * @return number of records suppressed since the previous permitted one, or -1 if the record must be suppressed
+     */
+    public long tryAcquire() {
+        var now = System.nanoTime();
+        var next = nextLogNanos.get();
+        if (now - next < 0 || !nextLogNanos.compareAndSet(next, now + intervalNanos)) {
+            suppressed.increment();
+            return -1;
+        }
+        return suppressed.sumThenReset();
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.binaflow.cache;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
+import io.github.binaflow.codec.MessageTypeIds;
+import io.github.binaflow.dto.Error;
+import io.github.binaflow.dto.Ping;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void messageIdOfRequestIsWrittenAfterStringMessageType(boolean offHeap) throws IOException {
+        var cache = new ResponseCache(16, Duration.ofMinutes(1), offHeap);
+        var key = ResponseCache.key(ByteBuffer.wrap(ping("request-1").toByteArray()), false);
+        cache.put(key, ByteBuffer.wrap(error("request-1").toByteArray()));
+
+        var payload = cache.get(key, "request-2").getPayload();
+        assertThat(Error.parseFrom(payload.duplicate())).isEqualTo(error("request-2"));
+        // Leading messageType field stays first
+        var head = Error.newBuilder().setMessageType("Error").build().toByteArray();
+        assertThat(slice(payload, 0, head.length)).isEqualTo(head);
+        assertThat(slice(payload, head.length, 1)).containsExactly(2 << 3 | 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void messageIdOfRequestIsWrittenAfterCompactPrefix(boolean offHeap) throws IOException {
+        var cache = new ResponseCache(16, Duration.ofMinutes(1), offHeap);
+        var prefix = new MessageTypeIds(List.of("Error", "Ping")).prefix("Error");
+        var key = ResponseCache.key(ByteBuffer.wrap(ping("request-1").toByteArray()), true);
+        cache.put(key, ByteBuffer.wrap(concat(prefix, error("request-1").toBuilder().clearMessageType().build().toByteArray())));
+
+        var payload = cache.get(key, "request-2").getPayload();
+        assertThat(slice(payload, 0, prefix.length)).isEqualTo(prefix);
+        var parsed = Error.parseFrom(payload.duplicate());
+        assertThat(parsed.getMessageId()).isEqualTo("request-2");
+        assertThat(parsed.getTitle()).isEqualTo("Title");
+        // Message type id is an int32 field 1, which is unknown for the string messageType
+        assertThat(parsed.getUnknownFields().getField(1).getVarintList()).containsExactly(1L);
+    }
+
+    @Test
+    void messageIdIsOmittedForRequestWithoutIt() throws IOException {
+        var cache = new ResponseCache(16, Duration.ofMinutes(1), false);
+        var key = ResponseCache.key(ByteBuffer.wrap(ping("request-1").toByteArray()), false);
+        cache.put(key, ByteBuffer.wrap(error("request-1").toByteArray()));
+
+        assertThat(Error.parseFrom(cache.get(key, null).getPayload())).isEqualTo(error(""));
+        assertThat(Error.parseFrom(cache.get(key, "").getPayload())).isEqualTo(error(""));
+    }
+
+    @Test
+    void keyIgnoresMessageTypeAndMessageIdButNotCompactFlag() throws IOException {
+        var key = ResponseCache.key(ByteBuffer.wrap(ping("request-1").toByteArray()), false);
+
+        assertThat(ResponseCache.key(ByteBuffer.wrap(ping("request-2").toByteArray()), false)).isEqualTo(key);
+        assertThat(ResponseCache.key(ByteBuffer.wrap(ping("request-1").toByteArray()), true)).isNotEqualTo(key);
+        var withUnknownField = ping("request-1").toBuilder()
+                .setUnknownFields(UnknownFieldSet.newBuilder()
+                        .addField(3, UnknownFieldSet.Field.newBuilder()
+                                .addLengthDelimited(ByteString.copyFromUtf8("body")).build())
+                        .build())
+                .build();
+        assertThat(ResponseCache.key(ByteBuffer.wrap(withUnknownField.toByteArray()), false)).isNotEqualTo(key);
+    }
+
+    @Test
+    void missIsCountedForUnknownKey() throws IOException {
+        var cache = new ResponseCache(16, Duration.ofMinutes(1), false);
+        var key = ResponseCache.key(ByteBuffer.wrap(ping("request-1").toByteArray()), false);
+
+        assertThat(cache.get(key, "request-1")).isNull();
+        cache.put(key, ByteBuffer.wrap(error("request-1").toByteArray()));
+        assertThat(cache.get(key, "request-1")).isNotNull();
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private static Ping ping(String messageId) {
+        return Ping.newBuilder().setMessageType("Ping").setMessageId(messageId).build();
+    }
+
+    private static Error error(String messageId) {
+        return Error.newBuilder()
+                .setMessageType("Error")
+                .setMessageId(messageId)
+                .setType("about:blank")
+                .setTitle("Title")
+                .setStatus(418)
+                .setDetail("Detail")
+                .build();
+    }
+
+    private static byte[] slice(ByteBuffer payload, int offset, int length) {
+        var bytes = new byte[length];
+        payload.get(payload.position() + offset, bytes);
+        return bytes;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        var bytes = new byte[first.length + second.length];
+        System.arraycopy(first, 0, bytes, 0, first.length);
+        System.arraycopy(second, 0, bytes, first.length, second.length);
+        return bytes;
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.binaflow.codec;
+
+import io.github.binaflow.BinaFlowProperties;
+import io.github.binaflow.dto.Compressed;
+import io.github.binaflow.dto.Ping;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressorTest {
+
+    private final Compressor compressor = new Compressor(new BinaFlowProperties.Compression(true,
+            DataSize.ofBytes(1024), 1, DataSize.ofKilobytes(64), 2));
+
+    @AfterEach
+    void destroy() {
+        compressor.destroy();
+    }
+
+    @Test
+    void compressedFrameIsParsedByProtobufAndDecompressedToOriginal() throws IOException {
+        var original = ping(4096).toByteArray();
+
+        var frame = compressor.compress(ByteBuffer.wrap(original)).getPayload();
+        var compressed = Compressed.parseFrom(frame.duplicate());
+        assertThat(compressed.getMessageType()).isEqualTo("Compressed");
+        assertThat(compressed.getPayload().size()).isLessThan(original.length);
+
+        var decompressed = compressor.decompress(frame);
+        assertThat(Ping.parseFrom(decompressed)).isEqualTo(ping(4096));
+        assertThat(compressor.deflateCount()).isEqualTo(1);
+        assertThat(compressor.inflateCount()).isEqualTo(1);
+        assertThat(compressor.savedBytes()).isEqualTo(original.length - frame.remaining());
+    }
+
+    @Test
+    void onlyPayloadsNotSmallerThanThresholdAreCompressed() {
+        assertThat(compressor.shouldCompress(1023)).isFalse();
+        assertThat(compressor.shouldCompress(1024)).isTrue();
+    }
+
+    @Test
+    void incompressiblePayloadIsNotCompressed() {
+        var random = new byte[2048];
+        new Random(42).nextBytes(random);
+
+        assertThat(compressor.compress(ByteBuffer.wrap(random))).isNull();
+        assertThat(compressor.incompressibleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void payloadInflatedOverLimitIsRejected() {
+        var frame = compressor.compress(ByteBuffer.wrap(ping(128 * 1024).toByteArray())).getPayload();
+
+        assertThatThrownBy(() -> compressor.decompress(frame))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Compressed message exceeds 65536 bytes");
+    }
+
+    @Test
+    void payloadInflatedOverExplicitLimitIsRejected() throws IOException {
+        var original = ping(4096).toByteArray();
+        var frame = compressor.compress(ByteBuffer.wrap(original)).getPayload();
+
+        assertThat(compressor.decompress(frame.duplicate(), original.length).remaining()).isEqualTo(original.length);
+        assertThatThrownBy(() -> compressor.decompress(frame.duplicate(), original.length - 1))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Compressed message exceeds " + (original.length - 1) + " bytes");
+        assertThatThrownBy(() -> compressor.decompress(frame.duplicate(), 0))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void truncatedFrameIsRejected() {
+        var frame = compressor.compress(ByteBuffer.wrap(ping(4096).toByteArray())).getPayload();
+        var truncated = frame.duplicate().limit(frame.limit() - 10);
+
+        assertThatThrownBy(() -> compressor.decompress(truncated)).isInstanceOf(IOException.class);
+    }
+
+    private static Ping ping(int messageIdLength) {
+        return Ping.newBuilder()
+                .setMessageType("Ping")
+                .setMessageId("a".repeat(messageIdLength))
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.binaflow.execution;
+
+import io.github.binaflow.BinaFlowProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlTest {
+
+    @Test
+    void messageRejectedByMessageTypeLimitDoesNotConsumeSessionLimit() {
+        var admissionControl = new AdmissionControl(new BinaFlowProperties.RateLimit(true, BinaFlowProperties.RateLimit.Mode.REJECT,
+                new BinaFlowProperties.RateLimit.Limit(1, 2),
+                null,
+                Map.of("Expensive", new BinaFlowProperties.RateLimit.Limit(1, 1))));
+
+        assertThat(admissionControl.admit("first", "Expensive")).isTrue();
+        assertThat(admissionControl.admit("second", "Expensive")).isFalse();
+        // Both tokens of the second session are left
+        assertThat(admissionControl.admit("second", "Ping")).isTrue();
+        assertThat(admissionControl.admit("second", "Ping")).isTrue();
+        assertThat(admissionControl.admit("second", "Ping")).isFalse();
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.binaflow.execution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SerialExecutorTest {
+
+    @Test
+    void tasksAreExecutedInSubmissionOrder() {
+        var delegate = new QueueExecutor();
+        var executor = new SerialExecutor(delegate, 100);
+        var executed = new ArrayList<Integer>();
+        for (int i = 0; i < 10; i++) {
+            var number = i;
+            executor.execute(() -> executed.add(number));
+        }
+
+        assertThat(delegate.submitted).hasSize(1);
+        delegate.runAll();
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void drainIsResubmittedAfterMaxTasksPerDrain() {
+        var delegate = new QueueExecutor();
+        var executor = new SerialExecutor(delegate, 1000);
+        var executed = new ArrayList<Integer>();
+        var taskCount = SerialExecutor.MAX_TASKS_PER_DRAIN + 10;
+        for (int i = 0; i < taskCount; i++) {
+            var number = i;
+            executor.execute(() -> executed.add(number));
+        }
+
+        delegate.runNext();
+        assertThat(executed).hasSize(SerialExecutor.MAX_TASKS_PER_DRAIN);
+        assertThat(delegate.submitted).hasSize(1);
+        delegate.runNext();
+        assertThat(executed).hasSize(taskCount);
+        assertThat(executed).isSorted();
+        assertThat(delegate.submitted).isEmpty();
+    }
+
+    @Test
+    void taskOverCapacityIsRejected() {
+        var delegate = new QueueExecutor();
+        var executor = new SerialExecutor(delegate, 2);
+        var executed = new ArrayList<String>();
+        executor.execute(() -> executed.add("first"));
+        executor.execute(() -> executed.add("second"));
+
+        assertThatThrownBy(() -> executor.execute(() -> executed.add("rejected")))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        delegate.runAll();
+        assertThat(executed).containsExactly("first", "second");
+        executor.execute(() -> executed.add("third"));
+        delegate.runAll();
+        assertThat(executed).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void taskRejectedByDelegateIsNotQueued() {
+        var executor = new SerialExecutor(task -> {
+            throw new RejectedExecutionException("Saturated");
+        }, 2);
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).hasMessage("Saturated");
+    }
+
+    @Test
+    void nextTaskIsExecutedAfterTaskThrows() {
+        var delegate = new QueueExecutor();
+        var executor = new SerialExecutor(delegate, 10);
+        var executed = new ArrayList<String>();
+        executor.execute(() -> {
+            throw new IllegalStateException("Handler failed");
+        });
+        executor.execute(() -> {
+            throw new AssertionError("Handler error");
+        });
+        executor.execute(() -> executed.add("next"));
+
+        delegate.runAll();
+        assertThat(executed).containsExactly("next");
+
+        executor.execute(() -> executed.add("after drain"));
+        assertThat(delegate.submitted).hasSize(1);
+        delegate.runAll();
+        assertThat(executed).containsExactly("next", "after drain");
+    }
+
+    /**
+     * Delegate that runs submitted tasks only when the test asks for it.
+     */
+    private static final class QueueExecutor implements Executor {
+
+        private final ArrayDeque<Runnable> submitted = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            submitted.add(command);
+        }
+
+        void runNext() {
+            submitted.poll().run();
+        }
+
+        void runAll() {
+            while (!submitted.isEmpty()) {
+                runNext();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.binaflow.metrics;
+
+import io.github.binaflow.cache.ResponseCache;
+import io.github.binaflow.config.BinaFlowAutoConfiguration;
+import io.github.binaflow.config.BinaFlowMetricsAutoConfiguration;
+import io.github.binaflow.service.BinaFlowService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerBinaFlowMetricsTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    MetricsAutoConfiguration.class,
+                    SimpleMetricsExportAutoConfiguration.class,
+                    BinaFlowAutoConfiguration.class,
+                    BinaFlowMetricsAutoConfiguration.class))
+            .withPropertyValues("binaflow.http-path=/binaflow", "binaflow.execution.mode=inline");
+
+    @Test
+    void messageTypeTimersAreBoundToMeterRegistryOfContext() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(SimpleMeterRegistry.class);
+            assertThat(context.getBean(BinaFlowService.class).isReady()).isTrue();
+            var meterRegistry = context.getBean(MeterRegistry.class);
+            assertThat(meterRegistry.find("binaflow.message.handle").tag("messageType", "Ping").timer()).isNotNull();
+            assertThat(meterRegistry.find("binaflow.message.decode").tag("messageType", "Ping").timer()).isNotNull();
+            assertThat(meterRegistry.find("binaflow.message.encode").tag("messageType", "Ping").timer()).isNotNull();
+            assertThat(meterRegistry.find("binaflow.sessions.active").gauge()).isNotNull();
+            assertThat(meterRegistry.get("binaflow.session.outbound.buffer.max").gauge().value()).isZero();
+            assertThat(meterRegistry.get("binaflow.session.outbound.buffer.total").gauge().value()).isZero();
+        });
+    }
+
+    @Test
+    void messageTypeMetricsRecordOnceBound() {
+        var metrics = new MicrometerBinaFlowMetrics(null);
+        metrics.registerMessageTypes(List.of("Ping"));
+        var pingMetrics = metrics.messageType("Ping");
+        assertThat(pingMetrics.enabled()).isFalse();
+        pingMetrics.handled(1_000);
+
+        var meterRegistry = new SimpleMeterRegistry();
+        metrics.bindTo(meterRegistry);
+        assertThat(pingMetrics.enabled()).isTrue();
+        pingMetrics.handled(1_000);
+
+        var timer = meterRegistry.get("binaflow.message.handle").tag("messageType", "Ping").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(metrics.messageType("Pong")).isSameAs(MessageTypeMetrics.NOOP);
+    }
+
+    @Test
+    void cacheMetersAreRegisteredWhenBound() {
+        var metrics = new MicrometerBinaFlowMetrics(null);
+        metrics.registerCache("Ping", new ResponseCache(16, Duration.ofMinutes(1), false));
+
+        var meterRegistry = new SimpleMeterRegistry();
+        metrics.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.find("binaflow.cache.requests").tags("messageType", "Ping", "result", "hit").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("binaflow.cache.requests").tags("messageType", "Ping", "result", "miss").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("binaflow.cache.size").tag("messageType", "Ping").gauge()).isNotNull();
+    }
+}
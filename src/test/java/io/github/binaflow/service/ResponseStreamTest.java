@@ -0,0 +1,109 @@
+package io.github.binaflow.service;
+
+import com.google.protobuf.Message;
+import io.github.binaflow.dto.Ping;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseStreamTest {
+
+    @Test
+    void nextMessageOfPublisherIsRequestedWhenSinkRunsDemand() {
+        var sink = new DeferredDemandSink();
+        ResponseStream.drain(Flux.range(0, 3).map(ResponseStreamTest::ping), sink);
+
+        assertThat(sink.messageIds()).containsExactly("0");
+        sink.runDemand();
+        assertThat(sink.messageIds()).containsExactly("0", "1");
+        sink.runDemand();
+        assertThat(sink.messageIds()).containsExactly("0", "1", "2");
+        assertThat(sink.completedCount).isEqualTo(-1);
+        sink.runDemand();
+        assertThat(sink.completedCount).isEqualTo(3);
+    }
+
+    @Test
+    void endOfStreamDoesNotOvertakeMessageAwaitingDemand() {
+        var sink = new DeferredDemandSink();
+        // Completion of Flux.just is signalled without demand right after the last message
+        ResponseStream.drain(Flux.just(ping(0)), sink);
+
+        assertThat(sink.messageIds()).containsExactly("0");
+        assertThat(sink.completedCount).isEqualTo(-1);
+        sink.runDemand();
+        assertThat(sink.completedCount).isEqualTo(1);
+    }
+
+    @Test
+    void iteratorIsDrainedOnCallingThread() {
+        var received = new ArrayList<Message>();
+        var completed = new long[]{-1};
+        ResponseStream.drain(List.of(ping(0), ping(1)).iterator(), new ResponseStream.Sink() {
+            @Override
+            public boolean next(Message message, Runnable demand) {
+                received.add(message);
+                // Demand of the iterator can be run by another thread
+                Thread.startVirtualThread(demand);
+                return true;
+            }
+
+            @Override
+            public void complete(long count) {
+                completed[0] = count;
+            }
+
+            @Override
+            public void error(Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+
+        assertThat(received).hasSize(2);
+        assertThat(completed[0]).isEqualTo(2);
+    }
+
+    private static Ping ping(int messageId) {
+        return Ping.newBuilder().setMessageType("Ping").setMessageId(Integer.toString(messageId)).build();
+    }
+
+    /**
+     * Sink that runs demands only when the test asks for it, like a session with full outbound buffer.
+     */
+    private static final class DeferredDemandSink implements ResponseStream.Sink {
+
+        private final List<Message> received = new ArrayList<>();
+        private final ArrayDeque<Runnable> demands = new ArrayDeque<>();
+        private long completedCount = -1;
+
+        @Override
+        public boolean next(Message message, Runnable demand) {
+            received.add(message);
+            demands.add(demand);
+            return true;
+        }
+
+        @Override
+        public void complete(long count) {
+            completedCount = count;
+        }
+
+        @Override
+        public void error(Exception e) {
+            throw new AssertionError(e);
+        }
+
+        void runDemand() {
+            demands.poll().run();
+        }
+
+        List<String> messageIds() {
+            return received.stream().map(message -> ((Ping) message).getMessageId()).toList();
+        }
+    }
+}
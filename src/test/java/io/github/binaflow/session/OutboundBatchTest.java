@@ -0,0 +1,81 @@
+package io.github.binaflow.session;
+
+import io.github.binaflow.codec.BatchDecoder;
+import io.github.binaflow.dto.Batch;
+import io.github.binaflow.dto.Ping;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboundBatchTest {
+
+    @Test
+    void batchFrameIsParsedByProtobufAndBatchDecoder() throws IOException {
+        var batch = new OutboundBatch(64 * 1024);
+        var pings = new Ping[]{ping("1", 10), ping("2", 300), ping("3", 5000)};
+        for (var ping : pings) {
+            batch.add(ByteBuffer.wrap(ping.toByteArray()));
+        }
+
+        var frame = batch.drain().getPayload();
+        assertThat(batch.isEmpty()).isTrue();
+
+        var parsed = Batch.parseFrom(frame.duplicate());
+        assertThat(parsed.getMessageType()).isEqualTo("Batch");
+        assertThat(parsed.getMessagesList()).extracting(Ping::parseFrom).containsExactly(pings);
+
+        var decoded = BatchDecoder.decode(frame);
+        assertThat(decoded).hasSize(3);
+        for (int i = 0; i < pings.length; i++) {
+            assertThat(Ping.parseFrom(decoded.get(i))).isEqualTo(pings[i]);
+        }
+    }
+
+    @Test
+    void batchWithOneMessageIsDrainedAsTheMessage() throws IOException {
+        var batch = new OutboundBatch(64 * 1024);
+        var ping = ping("1", 10);
+        batch.add(ByteBuffer.wrap(ping.toByteArray()));
+
+        assertThat(Ping.parseFrom(batch.drain().getPayload())).isEqualTo(ping);
+        assertThat(batch.drain()).isNull();
+    }
+
+    @Test
+    void frameGrowsUpToMaxSize() throws IOException {
+        var maxSize = 4 * OutboundBatch.INITIAL_CAPACITY;
+        var batch = new OutboundBatch(maxSize);
+        var ping = ping("1", 100);
+        var count = 0;
+        while (!batch.wouldOverflow(ping.getSerializedSize()) && !batch.isFull()) {
+            batch.add(ByteBuffer.wrap(ping.toByteArray()));
+            count++;
+        }
+
+        var frame = batch.drain().getPayload();
+        assertThat(frame.remaining()).isLessThanOrEqualTo(maxSize).isGreaterThan(3 * OutboundBatch.INITIAL_CAPACITY);
+        assertThat(Batch.parseFrom(frame).getMessagesCount()).isEqualTo(count);
+    }
+
+    @Test
+    void firstMessageBiggerThanInitialCapacityFits() throws IOException {
+        var batch = new OutboundBatch(64 * 1024);
+        var ping = ping("1", 10_000);
+        assertThat(batch.tooBig(ping.getSerializedSize())).isFalse();
+        batch.add(ByteBuffer.wrap(ping.toByteArray()));
+        batch.add(ByteBuffer.wrap(ping.toByteArray()));
+
+        assertThat(Batch.parseFrom(batch.drain().getPayload()).getMessagesList()).extracting(Ping::parseFrom)
+                .containsExactly(ping, ping);
+    }
+
+    private static Ping ping(String id, int padding) {
+        return Ping.newBuilder()
+                .setMessageType("Ping")
+                .setMessageId(id + "-".repeat(padding))
+                .build();
+    }
+}